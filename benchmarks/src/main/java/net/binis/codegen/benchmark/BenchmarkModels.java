@@ -0,0 +1,355 @@
+package net.binis.codegen.benchmark;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.modifier.Modifier;
+
+import java.util.List;
+
+public abstract class BenchmarkModels {
+
+    public static Source source() {
+        var result = new Source();
+        result.setName("name");
+        result.setDescription("description");
+        result.setCount(42);
+        result.setAmount(1234567L);
+        result.setPrice(99.5);
+        result.setActive(true);
+        result.setNumber(7);
+        result.setValues(List.of(1, 2, 3, 4, 5));
+        return result;
+    }
+
+    public static Destination handwritten(Source source) {
+        var result = new Destination();
+        result.setName(source.getName());
+        result.setDescription(source.getDescription());
+        result.setCount(source.getCount());
+        result.setAmount(source.getAmount());
+        result.setPrice(source.getPrice());
+        result.setActive(source.isActive());
+        result.setNumber(source.getNumber());
+        result.setValues(source.getValues());
+        return result;
+    }
+
+    public static class Source {
+        private String name;
+        private String description;
+        private int count;
+        private long amount;
+        private double price;
+        private boolean active;
+        private Integer number;
+        private List<Integer> values;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getNumber() {
+            return number;
+        }
+
+        public void setNumber(Integer number) {
+            this.number = number;
+        }
+
+        public List<Integer> getValues() {
+            return values;
+        }
+
+        public void setValues(List<Integer> values) {
+            this.values = values;
+        }
+    }
+
+    public static class Destination {
+        private String name;
+        private String description;
+        private int count;
+        private long amount;
+        private double price;
+        private boolean active;
+        private int number;
+        private List<Integer> values;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public List<Integer> getValues() {
+            return values;
+        }
+
+        public void setValues(List<Integer> values) {
+            this.values = values;
+        }
+    }
+
+    public static class Converted {
+        private String count;
+        private int amount;
+        private String price;
+        private String active;
+        private long number;
+        private int[] values;
+
+        public String getCount() {
+            return count;
+        }
+
+        public void setCount(String count) {
+            this.count = count;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+
+        public String getPrice() {
+            return price;
+        }
+
+        public void setPrice(String price) {
+            this.price = price;
+        }
+
+        public String getActive() {
+            return active;
+        }
+
+        public void setActive(String active) {
+            this.active = active;
+        }
+
+        public long getNumber() {
+            return number;
+        }
+
+        public void setNumber(long number) {
+            this.number = number;
+        }
+
+        public int[] getValues() {
+            return values;
+        }
+
+        public void setValues(int[] values) {
+            this.values = values;
+        }
+    }
+
+    public static class WitherDestination {
+        private String name;
+        private int count;
+        private long amount;
+
+        public With with() {
+            return new With(this);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public static class With {
+            private final WitherDestination parent;
+
+            public With(WitherDestination parent) {
+                this.parent = parent;
+            }
+
+            public With name(String name) {
+                parent.name = name;
+                return this;
+            }
+
+            public With count(int count) {
+                parent.count = count;
+                return this;
+            }
+
+            public With amount(long amount) {
+                parent.amount = amount;
+                return this;
+            }
+        }
+    }
+
+    public interface Modifiable {
+        Modifiable name(String name);
+        Modifiable count(int count);
+        Modifiable amount(long amount);
+    }
+
+    public static class ModifierDestination implements Modifiable, Modifier<ModifierDestination> {
+        private String name;
+        private int count;
+        private long amount;
+
+        @Override
+        public Modifiable name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public Modifiable count(int count) {
+            this.count = count;
+            return this;
+        }
+
+        @Override
+        public Modifiable amount(long amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        @Override
+        public ModifierDestination getObject() {
+            return this;
+        }
+
+        @Override
+        public void setObject(ModifierDestination object) {
+            //Do nothing
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    protected BenchmarkModels() {
+        //Do nothing
+    }
+
+}
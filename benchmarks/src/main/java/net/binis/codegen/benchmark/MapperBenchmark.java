@@ -0,0 +1,109 @@
+package net.binis.codegen.benchmark;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.Mapper;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.binis.codegen.benchmark.BenchmarkModels.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"false", "true"})
+    public boolean codeGeneration;
+
+    protected Source source;
+    protected int[] array;
+    protected List<Integer> list;
+
+    @Setup
+    public void setup() {
+        Mapper.map(0, Integer.class);
+        CodeFactory.create(MapperFactory.class).setCodeGeneration(codeGeneration);
+        source = source();
+        array = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        list = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Benchmark
+    public Destination handwritten() {
+        return BenchmarkModels.handwritten(source);
+    }
+
+    @Benchmark
+    public Destination gettersSetters() {
+        return Mapper.map(source, Destination.class);
+    }
+
+    @Benchmark
+    public Destination fields() {
+        return Mapper.map(source, Destination.class, MappingStrategy.FIELDS);
+    }
+
+    @Benchmark
+    public Destination fieldsGettersSetters() {
+        return Mapper.map(source, Destination.class, MappingStrategy.FIELDS_GETTERS_SETTERS);
+    }
+
+    @Benchmark
+    public Converted nestedConversions() {
+        return Mapper.convert(source, Converted.class);
+    }
+
+    @Benchmark
+    public WitherDestination wither() {
+        return Mapper.map(source, WitherDestination.class);
+    }
+
+    @Benchmark
+    public ModifierDestination modifier() {
+        return Mapper.map(source, ModifierDestination.class);
+    }
+
+    @Benchmark
+    public List<?> primitiveArrayToList() {
+        return Mapper.convert(array, List.class);
+    }
+
+    @Benchmark
+    public int[] listToPrimitiveArray() {
+        return Mapper.convert(list, int[].class);
+    }
+
+    @Benchmark
+    public Map<?, ?> objectToMap() {
+        return Mapper.map(source, Map.class);
+    }
+
+}
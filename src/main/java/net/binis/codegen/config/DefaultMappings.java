@@ -21,11 +21,19 @@ package net.binis.codegen.config;
  */
 
 import net.binis.codegen.annotation.CodeConfiguration;
-import net.binis.codegen.exception.MapperException;
 import net.binis.codegen.factory.CodeFactory;
 import net.binis.codegen.map.Mapper;
 import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.accessor.Accessors;
+import net.binis.codegen.map.accessor.BooleanToDoubleFunction;
+import net.binis.codegen.map.accessor.BooleanToIntFunction;
+import net.binis.codegen.map.accessor.BooleanToLongFunction;
+import net.binis.codegen.map.codec.BinaryCodec;
+import net.binis.codegen.map.executor.ArrayConversions;
+import net.binis.codegen.map.executor.ConverterCache;
 import net.binis.codegen.map.executor.DefaultMapperExecutor;
+import net.binis.codegen.map.executor.PrimitiveMapper;
+import net.binis.codegen.map.executor.TemporalConversions;
 import net.binis.codegen.objects.base.enumeration.CodeEnum;
 import net.binis.codegen.tools.Reflection;
 import net.binis.codegen.tools.TypeUtils;
@@ -35,20 +43,20 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.time.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.function.*;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @SuppressWarnings("unchecked")
 @CodeConfiguration
 public abstract class DefaultMappings {
 
-    protected static Map<Class, Function<Object, Map>> objectToMapCache = new ConcurrentHashMap<>();
+    protected static volatile ClassValue<Function<Object, Map>> objectToMapCache = createObjectToMapCache();
 
     public static void initialize() {
         CodeFactory.registerType(MapperFactory.class, CodeFactory.singleton(new DefaultMapperExecutor()));
+        objectToMapCache = createObjectToMapCache();
         //Creation of primitive types and wrappers
         CodeFactory.registerType(int.class, () -> 0);
         CodeFactory.registerType(long.class, () -> 0L);
@@ -73,29 +81,29 @@ public abstract class DefaultMappings {
         CodeFactory.registerType(List.class, () -> new ArrayList<>());
 
         //Number conversions
-        Mapper.registerProducerMapper(Number.class, int.class, (s, d) -> s.intValue());
-        Mapper.registerProducerMapper(Number.class, Integer.class, (s, d) -> s.intValue());
-        Mapper.registerProducerMapper(Number.class, long.class, (s, d) -> s.longValue());
-        Mapper.registerProducerMapper(Number.class, Long.class, (s, d) -> s.longValue());
+        Mapper.registerMapper(PrimitiveMapper.ofInt(Number.class, int.class, Number::intValue, (LongToIntFunction) s -> (int) s, (DoubleToIntFunction) s -> (int) s));
+        Mapper.registerMapper(PrimitiveMapper.ofInt(Number.class, Integer.class, Number::intValue));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(Number.class, long.class, Number::longValue, (IntToLongFunction) s -> s, (DoubleToLongFunction) s -> (long) s));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(Number.class, Long.class, Number::longValue));
         Mapper.registerProducerMapper(Number.class, byte.class, (s, d) -> s.byteValue());
         Mapper.registerProducerMapper(Number.class, Byte.class, (s, d) -> s.byteValue());
         Mapper.registerProducerMapper(Number.class, short.class, (s, d) -> s.shortValue());
         Mapper.registerProducerMapper(Number.class, Short.class, (s, d) -> s.shortValue());
-        Mapper.registerProducerMapper(Number.class, boolean.class, (s, d) -> s.intValue() != 0);
-        Mapper.registerProducerMapper(Number.class, Boolean.class, (s, d) -> s.intValue() != 0);
+        Mapper.registerMapper(PrimitiveMapper.ofBoolean(Number.class, boolean.class, s -> s.intValue() != 0, (IntPredicate) s -> s != 0, (LongPredicate) s -> (int) s != 0, (DoublePredicate) s -> (int) s != 0));
+        Mapper.registerMapper(PrimitiveMapper.ofBoolean(Number.class, Boolean.class, s -> s.intValue() != 0));
         Mapper.registerProducerMapper(Number.class, char.class, (s, d) -> (char) s.intValue());
         Mapper.registerProducerMapper(Number.class, Character.class, (s, d) -> (char) s.intValue());
         Mapper.registerProducerMapper(Number.class, float.class, (s, d) -> s.floatValue());
         Mapper.registerProducerMapper(Number.class, Float.class, (s, d) -> s.floatValue());
-        Mapper.registerProducerMapper(Number.class, double.class, (s, d) -> s.doubleValue());
-        Mapper.registerProducerMapper(Number.class, Double.class, (s, d) -> s.doubleValue());
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(Number.class, double.class, Number::doubleValue, (IntToDoubleFunction) s -> s, (LongToDoubleFunction) s -> s));
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(Number.class, Double.class, Number::doubleValue));
         //Boolean conversion
-        Mapper.registerProducerMapper(Boolean.class, boolean.class, (s, d) -> s);
+        Mapper.registerMapper(PrimitiveMapper.ofBoolean(Boolean.class, boolean.class, Boolean::booleanValue));
         Mapper.registerProducerMapper(boolean.class, Boolean.class, (s, d) -> s);
-        Mapper.registerProducerMapper(Boolean.class, int.class, (s, d) -> s ? 1 : 0);
-        Mapper.registerProducerMapper(Boolean.class, Integer.class, (s, d) -> s ? 1 : 0);
-        Mapper.registerProducerMapper(Boolean.class, long.class, (s, d) -> s ? 1L : 0);
-        Mapper.registerProducerMapper(Boolean.class, Long.class, (s, d) -> s ? 1L : 0);
+        Mapper.registerMapper(PrimitiveMapper.ofInt(Boolean.class, int.class, s -> s ? 1 : 0, (BooleanToIntFunction) s -> s ? 1 : 0));
+        Mapper.registerMapper(PrimitiveMapper.ofInt(Boolean.class, Integer.class, s -> s ? 1 : 0));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(Boolean.class, long.class, s -> s ? 1L : 0L, (BooleanToLongFunction) s -> s ? 1L : 0L));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(Boolean.class, Long.class, s -> s ? 1L : 0L));
         Mapper.registerProducerMapper(Boolean.class, byte.class, (s, d) -> s ? (byte) 1 : 0);
         Mapper.registerProducerMapper(Boolean.class, Byte.class, (s, d) -> s ? (byte) 1 : 0);
         Mapper.registerProducerMapper(Boolean.class, short.class, (s, d) -> s ? (short) 1 : 0);
@@ -104,24 +112,24 @@ public abstract class DefaultMappings {
         Mapper.registerProducerMapper(Boolean.class, Character.class, (s, d) -> s ? (char) 1 : 0);
         Mapper.registerProducerMapper(Boolean.class, float.class, (s, d) -> s ? 1.0f : 0);
         Mapper.registerProducerMapper(Boolean.class, Float.class, (s, d) -> s ? 1.0f : 0);
-        Mapper.registerProducerMapper(Boolean.class, double.class, (s, d) -> s ? 1.0 : 0);
-        Mapper.registerProducerMapper(Boolean.class, Double.class, (s, d) -> s ? 1.0 : 0);
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(Boolean.class, double.class, s -> s ? 1.0 : 0.0, (BooleanToDoubleFunction) s -> s ? 1.0 : 0.0));
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(Boolean.class, Double.class, s -> s ? 1.0 : 0.0));
         //String conversion
         Mapper.registerProducerMapper(Object.class, String.class, (s, d) -> s.toString());
-        Mapper.registerProducerMapper(String.class, int.class, (s, d) -> Integer.parseInt(s));
-        Mapper.registerProducerMapper(String.class, Integer.class, (s, d) -> Integer.parseInt(s));
-        Mapper.registerProducerMapper(String.class, long.class, (s, d) -> Long.parseLong(s));
-        Mapper.registerProducerMapper(String.class, Long.class, (s, d) -> Long.parseLong(s));
+        Mapper.registerMapper(PrimitiveMapper.ofInt(String.class, int.class, Integer::parseInt));
+        Mapper.registerMapper(PrimitiveMapper.ofInt(String.class, Integer.class, Integer::parseInt));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(String.class, long.class, Long::parseLong));
+        Mapper.registerMapper(PrimitiveMapper.ofLong(String.class, Long.class, Long::parseLong));
         Mapper.registerProducerMapper(String.class, float.class, (s, d) -> Float.parseFloat(s));
         Mapper.registerProducerMapper(String.class, Float.class, (s, d) -> Float.parseFloat(s));
-        Mapper.registerProducerMapper(String.class, double.class, (s, d) -> Double.parseDouble(s));
-        Mapper.registerProducerMapper(String.class, Double.class, (s, d) -> Double.parseDouble(s));
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(String.class, double.class, Double::parseDouble));
+        Mapper.registerMapper(PrimitiveMapper.ofDouble(String.class, Double.class, Double::parseDouble));
         Mapper.registerProducerMapper(String.class, short.class, (s, d) -> Short.parseShort(s));
         Mapper.registerProducerMapper(String.class, Short.class, (s, d) -> Short.parseShort(s));
         Mapper.registerProducerMapper(String.class, byte.class, (s, d) -> Byte.parseByte(s));
         Mapper.registerProducerMapper(String.class, Byte.class, (s, d) -> Byte.parseByte(s));
-        Mapper.registerProducerMapper(String.class, boolean.class, (s, d) -> Boolean.parseBoolean(s));
-        Mapper.registerProducerMapper(String.class, Boolean.class, (s, d) -> Boolean.parseBoolean(s));
+        Mapper.registerMapper(PrimitiveMapper.ofBoolean(String.class, boolean.class, Boolean::parseBoolean));
+        Mapper.registerMapper(PrimitiveMapper.ofBoolean(String.class, Boolean.class, Boolean::parseBoolean));
         Mapper.registerProducerMapper(String.class, char.class, (s, d) -> s.charAt(0));
         Mapper.registerProducerMapper(String.class, Character.class, (s, d) -> s.charAt(0));
         //Enum conversion
@@ -132,6 +140,9 @@ public abstract class DefaultMappings {
         Mapper.registerMapperClass(String.class, UUID.class, (s, d) -> UUID.fromString(s));
         //Collections
         Mapper.registerMapper(Collection.class, List.class, (s, d) -> {
+            if (d instanceof ArrayList list) {
+                list.ensureCapacity(list.size() + s.size());
+            }
             d.addAll(s);;
             return d;
         });
@@ -151,172 +162,31 @@ public abstract class DefaultMappings {
             d.putAll(s);
             return d;
         });
-        Mapper.registerMapper(int[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(long[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(byte[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(int[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(short[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(boolean[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(char[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerMapper(double[].class, List.class, (s, d) -> {
-            for (var item : s) {
-                d.add(item);
-            }
-            return d;
-        });
-        Mapper.registerProducerMapper(Collection.class, int[].class, (s, d) -> {
-            var result = new int[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], int.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, long[].class, (s, d) -> {
-            var result = new long[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], long.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, byte[].class, (s, d) -> {
-            var result = new byte[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], byte.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, short[].class, (s, d) -> {
-            var result = new short[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], short.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, boolean[].class, (s, d) -> {
-            var result = new boolean[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], boolean.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, char[].class, (s, d) -> {
-            var result = new char[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], char.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, float[].class, (s, d) -> {
-            var result = new float[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], float.class);
-            }
-            return result;
-        });
-        Mapper.registerProducerMapper(Collection.class, double[].class, (s, d) -> {
-            var result = new double[s.size()];
-            var source = s.toArray();
-            for (var i = 0; i < s.size(); i++) {
-                result[i] = Mapper.convert(source[i], double.class);
-            }
-            return result;
-        });
-        //Java Serialization
-        Mapper.registerProducerMapperClass(byte[].class, Serializable.class, (s, d) -> {
-            try (ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(s))) {
-                return (Serializable) is.readObject();
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
-        Mapper.registerProducerMapperClass(Serializable.class, byte[].class, (s, d) -> {
-            try (ByteArrayOutputStream bos = new ByteArrayOutputStream(); ObjectOutputStream os = new ObjectOutputStream(bos)) {
-                os.writeObject(s);
-                return bos.toByteArray();
-            } catch (Exception e) {
-                throw new MapperException(e);
+        for (var type : ArrayConversions.PRIMITIVE_ARRAYS) {
+            Mapper.registerMapper((Class) type, List.class, (s, d) -> ArrayConversions.addAll(s, d));
+            Mapper.registerProducerMapper(Collection.class, (Class) type, (s, d) -> ArrayConversions.toArray(s, type));
+        }
+        for (var source : ArrayConversions.NUMERIC_ARRAYS) {
+            for (var destination : ArrayConversions.NUMERIC_ARRAYS) {
+                if (!source.equals(destination)) {
+                    Mapper.registerProducerMapper((Class) source, (Class) destination, (s, d) -> ArrayConversions.convert(s, destination));
+                }
             }
-        });
+        }
+        //Binary codec (types it can't describe fall back to filtered Java serialization, see BinaryCodec.setJavaSerialization)
+        Mapper.registerProducerMapperClass(byte[].class, Serializable.class, (s, d) -> BinaryCodec.decode(s, isNull(d) ? Serializable.class : d));
+        Mapper.registerProducerMapperClass(Serializable.class, byte[].class, (s, d) -> BinaryCodec.encode(s));
         Mapper.registerProducerMapperClass(Object.class, Map.class, ObjectToMap());
 
         //Java Time
-        Mapper.registerProducerMapperClass(String.class, OffsetDateTime.class, (s, d) -> {
-            try {
-                return OffsetDateTime.parse(s);
-            } catch (Exception e) {
-                return null;
-            }
-        });
-        Mapper.registerProducerMapperClass(String.class, OffsetTime.class, (s, d) -> {
-            try {
-                return OffsetTime.parse(s);
-            } catch (Exception e) {
-                return null;
-            }
-        });
-        Mapper.registerProducerMapperClass(String.class, LocalDateTime.class, (s, d) -> {
-            try {
-                return LocalDateTime.parse(s);
-            } catch (Exception e) {
-                return null;
-            }
-        });
-        Mapper.registerProducerMapperClass(String.class, LocalDate.class, (s, d) -> {
-            try {
-                return LocalDate.parse(s);
-            } catch (Exception e) {
-                return null;
-            }
-        });
-        Mapper.registerProducerMapperClass(String.class, LocalTime.class, (s, d) -> {
-            try {
-                return LocalTime.parse(s);
-            } catch (Exception e) {
-                return null;
-            }
-        });
+        Mapper.registerProducerMapper(String.class, OffsetDateTime.class, (s, d) -> TemporalConversions.toOffsetDateTime(s));
+        Mapper.registerProducerMapper(String.class, OffsetTime.class, (s, d) -> TemporalConversions.toOffsetTime(s));
+        Mapper.registerProducerMapper(String.class, LocalDateTime.class, (s, d) -> TemporalConversions.toLocalDateTime(s));
+        Mapper.registerProducerMapper(String.class, LocalDate.class, (s, d) -> TemporalConversions.toLocalDate(s));
+        Mapper.registerProducerMapper(String.class, LocalTime.class, (s, d) -> TemporalConversions.toLocalTime(s));
+        for (var type : TemporalConversions.TEMPORAL_TYPES) {
+            Mapper.registerProducerMapper((Class) type, String.class, (s, d) -> s.toString());
+        }
     }
 
     protected static BiFunction<Object, Class<Map>, Map> ObjectToMap() {
@@ -324,37 +194,56 @@ public abstract class DefaultMappings {
             if (s instanceof Map map) {
                 return map;
             }
-            return objectToMapCache.computeIfAbsent(s.getClass(), k -> {
-                var methods = Reflection.findMethods(s.getClass(), m ->
-                        !"getClass".equals(m.getName()) &&
-                                m.getParameterCount() == 0 &&
-                                !void.class.equals(m.getReturnType()) &&
-                                (m.getModifiers() & Modifier.PUBLIC) != 0 &&
-                                (m.getModifiers() & Modifier.STATIC) == 0 &&
-                                (m.getName().startsWith("get") || m.getName().startsWith("is")))
-                        .stream().collect(HashMap<String, Function<Object, Object>>::new, (m, v) -> {
-                            var name = v.getName().substring(v.getName().startsWith("i") ? 2 : 3);
-                            if (!name.isEmpty() && Character.isUpperCase(name.charAt(0))) {
-                                name = Character.toLowerCase(name.charAt(0)) + name.substring(1);
-                                m.put(name, mapValue(v));
-                            }
-                        }, HashMap::putAll);
-                return object ->
-                        methods.entrySet().stream().collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue().apply(object)), HashMap::putAll);
-            }).apply(s);
+            return objectToMapCache.get(s.getClass()).apply(s);
+        };
+    }
+
+    protected static ClassValue<Function<Object, Map>> createObjectToMapCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Function<Object, Map> computeValue(Class<?> type) {
+                return compileObjectToMap(type);
+            }
+        };
+    }
+
+    protected static Function<Object, Map> compileObjectToMap(Class<?> cls) {
+        var found = new LinkedHashMap<String, Function<Object, Object>>();
+        for (var method : Reflection.findMethods(cls, m ->
+                !"getClass".equals(m.getName()) &&
+                        m.getParameterCount() == 0 &&
+                        !void.class.equals(m.getReturnType()) &&
+                        (m.getModifiers() & Modifier.PUBLIC) != 0 &&
+                        (m.getModifiers() & Modifier.STATIC) == 0 &&
+                        (m.getName().startsWith("get") || m.getName().startsWith("is")))) {
+            var name = method.getName().substring(method.getName().startsWith("i") ? 2 : 3);
+            if (!name.isEmpty() && Character.isUpperCase(name.charAt(0))) {
+                found.put(Character.toLowerCase(name.charAt(0)) + name.substring(1), mapValue(method));
+            }
+        }
+        var keys = found.keySet().toArray(String[]::new);
+        var readers = found.values().toArray(Function[]::new);
+        var capacity = (int) (keys.length / 0.75f) + 1;
+        return object -> {
+            var result = new HashMap<String, Object>(capacity);
+            for (var i = 0; i < keys.length; i++) {
+                result.put(keys[i], readers[i].apply(object));
+            }
+            return result;
         };
     }
 
     protected static Function<Object, Object> mapValue(Method method) {
         var cls = method.getReturnType();
+        var get = Accessors.getter(method);
         if (cls.isPrimitive() || TypeUtils.isWrapperType(cls) || String.class.equals(cls) || Enum.class.isAssignableFrom(cls)) {
-            return object ->
-                Reflection.invoke(method, object);
+            return get;
         } else {
+            var cache = new ConverterCache(CodeFactory.create(MapperFactory.class), Map.class, false);
             return object -> {
-                var value = Reflection.invoke(method, object);
+                var value = get.apply(object);
                 if (nonNull(value)) {
-                    return Mapper.map(value, Map.class);
+                    return cache.map(value);
                 }
                 return null;
             };
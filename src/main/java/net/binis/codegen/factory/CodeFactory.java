@@ -31,12 +31,13 @@ import net.binis.codegen.exception.GenericCodeGenException;
 import net.binis.codegen.objects.Pair;
 import net.binis.codegen.objects.base.enumeration.CodeEnum;
 import net.binis.codegen.objects.base.enumeration.CodeEnumImpl;
+import net.binis.codegen.tools.ClassPairRegistry;
+import net.binis.codegen.tools.ClassRegistry;
 import net.binis.codegen.tools.Holder;
 import net.binis.codegen.tools.Reflection;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import static java.util.Objects.isNull;
@@ -47,17 +48,17 @@ import static net.binis.codegen.tools.Reflection.*;
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class CodeFactory {
 
-    protected static final Map<Class<?>, RegistryEntry> registry = new ConcurrentHashMap<>();
-    protected static final Map<Class<?>, IdRegistryEntry> idRegistry = new ConcurrentHashMap<>();
+    protected static final ClassRegistry<RegistryEntry> registry = new ClassRegistry<>();
+    protected static final ClassRegistry<IdRegistryEntry> idRegistry = new ClassRegistry<>();
     protected static EnvelopingObjectFactory envelopingFactory;
     protected static final Set<Class<?>> customProxyClassesRegistry = Collections.synchronizedSet(new HashSet<>());
     protected static final List<Pair<Class<?>, ProjectionProvider>> customProxyClasses = Collections.synchronizedList(new ArrayList<>());
-    protected static final Map<Class<?>, Map<Class<?>, ProjectionInstantiation>> projectionsCache = new ConcurrentHashMap<>();
+    protected static final ClassPairRegistry<ProjectionInstantiation> projectionsCache = new ClassPairRegistry<>();
     protected static final List<ForeignObjectFactory> foreignFactories = Collections.synchronizedList(new ArrayList<>());
     protected static ProjectionProvider projections = initProjectionProvider();
     protected static ProxyProvider proxies = initProxyProvider();
 
-    protected static final Map<Class<?>, EnumEntry> enumRegistry = new HashMap<>();
+    protected static final ClassRegistry<EnumEntry> enumRegistry = new ClassRegistry<>();
 
     protected CodeFactory() {
         //Do nothing
@@ -320,11 +321,9 @@ public class CodeFactory {
     public static <T> T projection(Object object, Class<T> projection) {
         if (nonNull(object)) {
             if (nonNull(projections)) {
-                return (T) projectionsCache.computeIfAbsent(projection, k ->
-                                new ConcurrentHashMap<>())
-                        .computeIfAbsent(object.getClass(), k ->
+                return (T) projectionsCache.computeIfAbsent(object.getClass(), projection, (k, p) ->
                                 checkForCustomClass(k).orElse(projections)
-                                        .create(k, projection))
+                                        .create(k, p))
                         .create(object);
             } else {
                 if (projection.isInstance(object)) {
@@ -458,7 +457,7 @@ public class CodeFactory {
     }
 
     public static List<Class<? extends CodeEnum>> registeredEnums() {
-        return (List) enumRegistry.keySet().stream().toList();
+        return (List) enumRegistry.keys();
     }
 
     public static CodeFactoryExeception exception(String message, Object... params) {
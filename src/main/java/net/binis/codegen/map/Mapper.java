@@ -25,9 +25,17 @@ import net.binis.codegen.map.builder.SourceMappingBuilder;
 import net.binis.codegen.map.executor.DefaultMapperExecutor;
 import net.binis.codegen.map.executor.LambdaMapperExecutor;
 import net.binis.codegen.map.executor.MappingBuilderExecutor;
+import net.binis.codegen.map.executor.TemporalConversions;
 
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 public class Mapper {
 
@@ -93,6 +101,150 @@ public class Mapper {
     }
 
 
+    public static <T> T mapPartial(Object source, Class<T> destination, Collection<String> fields) {
+        return CodeFactory.create(MapperFactory.class).mapPartial(source, destination, fields);
+    }
+
+    public static <T> T mapPartial(Object source, T destination, Collection<String> fields) {
+        return CodeFactory.create(MapperFactory.class).mapPartial(source, destination, fields);
+    }
+
+    public static <T> T mapPartial(Object source, Class<T> destination, Class<?> projection) {
+        return CodeFactory.create(MapperFactory.class).mapPartial(source, destination, projection);
+    }
+
+    public static <T> List<T> mapAll(Collection<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapAll(source, destination);
+    }
+
+    public static <T> List<T> mapAll(Collection<?> source, Class<T> destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).mapAll(source, destination, strategy);
+    }
+
+    public static <T> List<T> mapAll(Object[] source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapAll(source, destination);
+    }
+
+    public static <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapAllParallel(source, destination);
+    }
+
+    public static <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination, String flow) {
+        return CodeFactory.create(MapperFactory.class).mapAllParallel(source, destination, flow);
+    }
+
+    public static <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapAllAsync(source, destination);
+    }
+
+    public static <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination, String flow) {
+        return CodeFactory.create(MapperFactory.class).mapAllAsync(source, destination, flow);
+    }
+
+    public static <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapAsync(source, destination);
+    }
+
+    public static <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination, String flow) {
+        return CodeFactory.create(MapperFactory.class).mapAsync(source, destination, flow);
+    }
+
+    public static <T> List<T> mapInto(List<?> source, List<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapInto(source, destination);
+    }
+
+    public static <T> Stream<T> stream(Stream<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).stream(source, destination);
+    }
+
+    public static <T> Stream<T> stream(Stream<?> source, Class<T> destination, boolean recycle) {
+        return CodeFactory.create(MapperFactory.class).stream(source, destination, recycle);
+    }
+
+    public static <T> Stream<T> stream(Iterator<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).stream(source, destination);
+    }
+
+    public static <T> Spliterator<T> spliterator(Spliterator<?> source, Class<T> destination, boolean recycle) {
+        return CodeFactory.create(MapperFactory.class).spliterator(source, destination, recycle);
+    }
+
+    public static <T> List<T> convertAll(Collection<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).convertAll(source, destination);
+    }
+
+    public static <T> List<T> convertAll(Collection<?> source, Class<T> destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).convertAll(source, destination, strategy);
+    }
+
+    public static <T> List<T> convertAll(Object[] source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).convertAll(source, destination);
+    }
+
+    public static <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).convertAllAsync(source, destination);
+    }
+
+    public static <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination, String flow) {
+        return CodeFactory.create(MapperFactory.class).convertAllAsync(source, destination, flow);
+    }
+
+    public static <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).convertAsync(source, destination);
+    }
+
+    public static <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination, String flow) {
+        return CodeFactory.create(MapperFactory.class).convertAsync(source, destination, flow);
+    }
+
+    public static <T> MappingChanges<T> mapChanges(Object source, T destination) {
+        return CodeFactory.create(MapperFactory.class).mapChanges(source, destination);
+    }
+
+    public static <T> MappingChanges<T> mapChanges(Object source, T destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).mapChanges(source, destination, strategy);
+    }
+
+    public static <T> T mapGraph(Object source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).mapGraph(source, destination);
+    }
+
+    public static <T> T mapGraph(Object source, Class<T> destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).mapGraph(source, destination, strategy);
+    }
+
+    public static <T> T convertGraph(Object source, Class<T> destination) {
+        return CodeFactory.create(MapperFactory.class).convertGraph(source, destination);
+    }
+
+    public static <T> T convertGraph(Object source, Class<T> destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).convertGraph(source, destination, strategy);
+    }
+
+    public static Mapping precompile(Class<?> source, Class<?> destination) {
+        return CodeFactory.create(MapperFactory.class).precompile(source, destination);
+    }
+
+    public static Mapping precompile(Class<?> source, Class<?> destination, MappingStrategy strategy) {
+        return CodeFactory.create(MapperFactory.class).precompile(source, destination, strategy);
+    }
+
+    public static Mapping precompile(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key) {
+        return CodeFactory.create(MapperFactory.class).precompile(source, destination, convert, strategy, key);
+    }
+
+    public static void recordWarmup(Path file) {
+        CodeFactory.create(MapperFactory.class).recordWarmup(file);
+    }
+
+    public static CompletableFuture<Integer> warmup(Path file) {
+        return CodeFactory.create(MapperFactory.class).warmup(file);
+    }
+
+    public static CompletableFuture<Integer> warmup(Path file, String flow) {
+        return CodeFactory.create(MapperFactory.class).warmup(file, flow);
+    }
+
     public static void registerMapper(Mapping mapping) {
         CodeFactory.create(MapperFactory.class).registerMapper(mapping);
     }
@@ -165,6 +317,14 @@ public class Mapper {
         registerProducerMapperClass(source, destination, MappingStrategy.GETTERS_SETTERS, func);
     }
 
+    public static <K> void registerTemporalFormat(K key, String pattern) {
+        TemporalConversions.registerFormat(key, pattern);
+    }
+
+    public static <K> void registerTemporalFormat(K key, DateTimeFormatter formatter) {
+        TemporalConversions.registerFormat(key, formatter);
+    }
+
     public static <S, D> List<Mapping<S, D>> findMappings(Class<S> source, Class<D> destination) {
         return CodeFactory.create(MapperFactory.class).findMappings(source, destination);
     }
@@ -20,7 +20,13 @@ package net.binis.codegen.map;
  * #L%
  */
 
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface MapperFactory {
 
@@ -32,6 +38,9 @@ public interface MapperFactory {
     <T, K> T map(Object source, T destination, K key);
     <T> T map(Object source, Class<T> destination, MappingStrategy strategy);
     <T> T map(Object source, T destination, MappingStrategy strategy);
+    <T> T mapPartial(Object source, Class<T> destination, Collection<String> fields);
+    <T> T mapPartial(Object source, T destination, Collection<String> fields);
+    <T> T mapPartial(Object source, Class<T> destination, Class<?> projection);
     Mapping mapping(Class source, Class destination);
     Mapping mapping(Class source, Class destination, MappingStrategy strategy);
     Mapping mapping(Class source, Class destination, MappingStrategy strategy, Object key);
@@ -45,6 +54,39 @@ public interface MapperFactory {
     <T> T convert(Object source, Class<T> destination, MappingStrategy strategy, Object... params);
     <T> T convert(Object source, T destination, MappingStrategy strategy);
     <T, K> T convert(Object source, T destination, MappingStrategy strategy, K key);
+    <T> List<T> mapAll(Collection<?> source, Class<T> destination);
+    <T> List<T> mapAll(Collection<?> source, Class<T> destination, MappingStrategy strategy);
+    <T> List<T> mapAll(Object[] source, Class<T> destination);
+    <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination);
+    <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination, String flow);
+    <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination);
+    <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination, String flow);
+    <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination);
+    <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination, String flow);
+    <T> List<T> mapInto(List<?> source, List<T> destination);
+    <T> Stream<T> stream(Stream<?> source, Class<T> destination);
+    <T> Stream<T> stream(Stream<?> source, Class<T> destination, boolean recycle);
+    <T> Stream<T> stream(Iterator<?> source, Class<T> destination);
+    <T> Spliterator<T> spliterator(Spliterator<?> source, Class<T> destination, boolean recycle);
+    <T> List<T> convertAll(Collection<?> source, Class<T> destination);
+    <T> List<T> convertAll(Collection<?> source, Class<T> destination, MappingStrategy strategy);
+    <T> List<T> convertAll(Object[] source, Class<T> destination);
+    <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination);
+    <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination, String flow);
+    <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination);
+    <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination, String flow);
+    <T> MappingChanges<T> mapChanges(Object source, T destination);
+    <T> MappingChanges<T> mapChanges(Object source, T destination, MappingStrategy strategy);
+    <T> T mapGraph(Object source, Class<T> destination);
+    <T> T mapGraph(Object source, Class<T> destination, MappingStrategy strategy);
+    <T> T convertGraph(Object source, Class<T> destination);
+    <T> T convertGraph(Object source, Class<T> destination, MappingStrategy strategy);
+    Mapping precompile(Class<?> source, Class<?> destination);
+    Mapping precompile(Class<?> source, Class<?> destination, MappingStrategy strategy);
+    Mapping precompile(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key);
+    void recordWarmup(Path file);
+    CompletableFuture<Integer> warmup(Path file);
+    CompletableFuture<Integer> warmup(Path file, String flow);
     boolean canMap(Class<?> source, Class<?> destination);
     boolean canMapExactly(Class<?> source, Class<?> destination);
     <S, D> Mapping<S, D> getMap(Class<S> source, Class<D> destination);
@@ -56,5 +98,8 @@ public interface MapperFactory {
     <S, D, K> List<Mapping<S, D>> findMappings(Class<S> source, Class<D> destination, K key);
     <S, D> Mapping<S, D> clearMapping(Class<S> source, Class<D> destination);
     void clearAllMappings();
+    void setCodeGeneration(boolean enabled);
+    boolean isCodeGeneration();
+    long getModifications();
 
 }
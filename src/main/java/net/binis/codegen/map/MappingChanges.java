@@ -0,0 +1,58 @@
+package net.binis.codegen.map;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+
+public class MappingChanges<T> {
+
+    protected final T destination;
+    protected final List<Change> changes;
+
+    public MappingChanges(T destination, List<Change> changes) {
+        this.destination = destination;
+        this.changes = changes;
+    }
+
+    public T getDestination() {
+        return destination;
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    public boolean isChanged(String name) {
+        return changes.stream().anyMatch(c -> c.name().equals(name));
+    }
+
+    public List<String> getNames() {
+        return changes.stream().map(Change::name).toList();
+    }
+
+    public record Change(String name, Object oldValue, Object newValue) {
+    }
+
+}
@@ -24,6 +24,7 @@ public enum MappingStrategy {
 
     GETTERS_SETTERS,
     FIELDS,
-    FIELDS_GETTERS_SETTERS
+    FIELDS_GETTERS_SETTERS,
+    CONSTRUCTOR
 
 }
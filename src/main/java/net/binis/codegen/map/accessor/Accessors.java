@@ -0,0 +1,407 @@
+package net.binis.codegen.map.accessor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.tools.Reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.function.*;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@SuppressWarnings("unchecked")
+public abstract class Accessors {
+
+    protected static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    protected static final MethodType GETTER = methodType(Object.class, Object.class);
+    protected static final MethodType SETTER = methodType(void.class, Object.class, Object.class);
+    protected static final MethodType INT_GETTER = methodType(int.class, Object.class);
+    protected static final MethodType INT_SETTER = methodType(void.class, Object.class, int.class);
+    protected static final MethodType LONG_GETTER = methodType(long.class, Object.class);
+    protected static final MethodType LONG_SETTER = methodType(void.class, Object.class, long.class);
+    protected static final MethodType DOUBLE_GETTER = methodType(double.class, Object.class);
+    protected static final MethodType DOUBLE_SETTER = methodType(void.class, Object.class, double.class);
+    protected static final MethodType BOOLEAN_GETTER = methodType(boolean.class, Object.class);
+    protected static final MethodType BOOLEAN_SETTER = methodType(void.class, Object.class, boolean.class);
+
+    protected Accessors() {
+        //Do nothing
+    }
+
+    public static Function<Object, Object> getter(Member member) {
+        return compile(member, false, Function.class, "apply", GETTER);
+    }
+
+    public static BiConsumer<Object, Object> setter(Member member) {
+        return compile(member, true, BiConsumer.class, "accept", SETTER);
+    }
+
+    public static ToIntFunction<Object> intGetter(Member member) {
+        return compile(member, false, ToIntFunction.class, "applyAsInt", INT_GETTER);
+    }
+
+    public static ObjIntConsumer<Object> intSetter(Member member) {
+        return compile(member, true, ObjIntConsumer.class, "accept", INT_SETTER);
+    }
+
+    public static ToLongFunction<Object> longGetter(Member member) {
+        return compile(member, false, ToLongFunction.class, "applyAsLong", LONG_GETTER);
+    }
+
+    public static ObjLongConsumer<Object> longSetter(Member member) {
+        return compile(member, true, ObjLongConsumer.class, "accept", LONG_SETTER);
+    }
+
+    public static ToDoubleFunction<Object> doubleGetter(Member member) {
+        return compile(member, false, ToDoubleFunction.class, "applyAsDouble", DOUBLE_GETTER);
+    }
+
+    public static ObjDoubleConsumer<Object> doubleSetter(Member member) {
+        return compile(member, true, ObjDoubleConsumer.class, "accept", DOUBLE_SETTER);
+    }
+
+    public static Predicate<Object> booleanGetter(Member member) {
+        return compile(member, false, Predicate.class, "test", BOOLEAN_GETTER);
+    }
+
+    public static ObjBooleanConsumer<Object> booleanSetter(Member member) {
+        return compile(member, true, ObjBooleanConsumer.class, "accept", BOOLEAN_SETTER);
+    }
+
+    public static boolean isSpecialized(Class<?> type) {
+        return int.class.equals(type) || long.class.equals(type) || double.class.equals(type) || boolean.class.equals(type);
+    }
+
+    public static AccessorType typeOf(Object accessor) {
+        if (accessor instanceof HandleAccessor) {
+            return AccessorType.METHOD_HANDLE;
+        } else if (accessor instanceof ReflectionAccessor) {
+            return AccessorType.REFLECTION;
+        }
+        return AccessorType.LAMBDA;
+    }
+
+    protected static <T> T compile(Member member, boolean setter, Class<?> intf, String name, MethodType sam) {
+        if (member instanceof Method method) {
+            var result = metafactory(method, intf, name, sam);
+            if (isNull(result)) {
+                var handle = unreflect(method);
+                result = nonNull(handle) ? adapt(handle, sam) : null;
+            }
+            return (T) (nonNull(result) ? result : new ReflectionAccessor(method, null));
+        } else if (member instanceof Field field) {
+            var handle = unreflect(field, setter);
+            var result = nonNull(handle) ? adapt(handle, sam) : null;
+            return (T) (nonNull(result) ? result : new ReflectionAccessor(null, field));
+        }
+        throw new IllegalArgumentException("Unsupported accessor member: " + member);
+    }
+
+    protected static Object metafactory(Method method, Class<?> intf, String name, MethodType sam) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        for (var caller : new MethodHandles.Lookup[]{privateLookup(method.getDeclaringClass()), lookup}) {
+            if (nonNull(caller) && isAccessible(caller, method)) {
+                try {
+                    var handle = caller.unreflect(method);
+                    var site = LambdaMetafactory.metafactory(caller, name, methodType(intf), sam, handle, instantiate(handle.type(), sam));
+                    return site.getTarget().invoke();
+                } catch (Throwable e) {
+                    log.debug("Unable to compile lambda for {}.{}()!", method.getDeclaringClass().getName(), method.getName(), e);
+                }
+            }
+        }
+        return null;
+    }
+
+    protected static MethodType instantiate(MethodType impl, MethodType sam) {
+        var params = new Class<?>[sam.parameterCount()];
+        for (var i = 0; i < params.length; i++) {
+            params[i] = sam.parameterType(i).isPrimitive() ? sam.parameterType(i) : impl.parameterType(i).isPrimitive() ? impl.wrap().parameterType(i) : impl.parameterType(i);
+        }
+        var ret = sam.returnType();
+        if (!ret.isPrimitive()) {
+            ret = impl.returnType().isPrimitive() ? impl.wrap().returnType() : impl.returnType();
+        }
+        return methodType(ret, params);
+    }
+
+    protected static boolean isAccessible(MethodHandles.Lookup caller, Method method) {
+        try {
+            accessType(caller, method.getDeclaringClass());
+            accessType(caller, method.getReturnType());
+            for (var type : method.getParameterTypes()) {
+                accessType(caller, type);
+            }
+            return Modifier.isPublic(method.getModifiers()) || caller.lookupClass().equals(method.getDeclaringClass());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    protected static void accessType(MethodHandles.Lookup caller, Class<?> type) throws IllegalAccessException {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (!type.isPrimitive()) {
+            caller.accessClass(type);
+            if (!isVisible(caller.lookupClass().getClassLoader(), type)) {
+                throw new IllegalAccessException(type.getName() + " is not visible from " + caller.lookupClass().getName());
+            }
+        }
+    }
+
+    protected static boolean isVisible(ClassLoader loader, Class<?> type) {
+        if (type.getClassLoader() == loader) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    protected static MethodHandles.Lookup privateLookup(Class<?> cls) {
+        try {
+            return MethodHandles.privateLookupIn(cls, lookup);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    protected static MethodHandle unreflect(Method method) {
+        var caller = privateLookup(method.getDeclaringClass());
+        if (nonNull(caller)) {
+            try {
+                return dropReceiver(caller.unreflect(method), Modifier.isStatic(method.getModifiers()));
+            } catch (Exception e) {
+                //Try with accessible flag
+            }
+        }
+        try {
+            makeAccessible(method);
+            return dropReceiver(lookup.unreflect(method), Modifier.isStatic(method.getModifiers()));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    protected static MethodHandle unreflect(Field field, boolean setter) {
+        var isStatic = Modifier.isStatic(field.getModifiers());
+        var caller = privateLookup(field.getDeclaringClass());
+        if (nonNull(caller)) {
+            try {
+                return dropReceiver(setter ? caller.unreflectSetter(field) : caller.unreflectGetter(field), isStatic);
+            } catch (Exception e) {
+                //Try with accessible flag
+            }
+        }
+        try {
+            makeAccessible(field);
+            return dropReceiver(setter ? lookup.unreflectSetter(field) : lookup.unreflectGetter(field), isStatic);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    protected static MethodHandle dropReceiver(MethodHandle handle, boolean isStatic) {
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+
+    protected static HandleAccessor adapt(MethodHandle handle, MethodType sam) {
+        try {
+            return new HandleAccessor(handle.asType(sam));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    protected static void makeAccessible(AccessibleObject object) {
+        if (!object.trySetAccessible()) {
+            Reflection.setAccessible((Member) object);
+        }
+    }
+
+    protected static final class HandleAccessor implements Function<Object, Object>, BiConsumer<Object, Object>,
+            ToIntFunction<Object>, ObjIntConsumer<Object>, ToLongFunction<Object>, ObjLongConsumer<Object>,
+            ToDoubleFunction<Object>, ObjDoubleConsumer<Object>, Predicate<Object>, ObjBooleanConsumer<Object> {
+
+        private final MethodHandle handle;
+
+        private HandleAccessor(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @SneakyThrows
+        @Override
+        public Object apply(Object object) {
+            return (Object) handle.invokeExact(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, Object value) {
+            handle.invokeExact(object, value);
+        }
+
+        @SneakyThrows
+        @Override
+        public int applyAsInt(Object object) {
+            return (int) handle.invokeExact(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, int value) {
+            handle.invokeExact(object, value);
+        }
+
+        @SneakyThrows
+        @Override
+        public long applyAsLong(Object object) {
+            return (long) handle.invokeExact(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, long value) {
+            handle.invokeExact(object, value);
+        }
+
+        @SneakyThrows
+        @Override
+        public double applyAsDouble(Object object) {
+            return (double) handle.invokeExact(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, double value) {
+            handle.invokeExact(object, value);
+        }
+
+        @SneakyThrows
+        @Override
+        public boolean test(Object object) {
+            return (boolean) handle.invokeExact(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, boolean value) {
+            handle.invokeExact(object, value);
+        }
+    }
+
+    protected static final class ReflectionAccessor implements Function<Object, Object>, BiConsumer<Object, Object>,
+            ToIntFunction<Object>, ObjIntConsumer<Object>, ToLongFunction<Object>, ObjLongConsumer<Object>,
+            ToDoubleFunction<Object>, ObjDoubleConsumer<Object>, Predicate<Object>, ObjBooleanConsumer<Object> {
+
+        private final Method method;
+        private final Field field;
+
+        private ReflectionAccessor(Method method, Field field) {
+            this.method = method;
+            this.field = field;
+            makeAccessible(nonNull(method) ? method : field);
+        }
+
+        @SneakyThrows
+        @Override
+        public Object apply(Object object) {
+            if (nonNull(method)) {
+                try {
+                    return method.invoke(object);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+            return field.get(object);
+        }
+
+        @SneakyThrows
+        @Override
+        public void accept(Object object, Object value) {
+            if (nonNull(method)) {
+                try {
+                    method.invoke(object, value);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            } else {
+                field.set(object, value);
+            }
+        }
+
+        @Override
+        public int applyAsInt(Object object) {
+            return (int) apply(object);
+        }
+
+        @Override
+        public void accept(Object object, int value) {
+            accept(object, (Object) value);
+        }
+
+        @Override
+        public long applyAsLong(Object object) {
+            return (long) apply(object);
+        }
+
+        @Override
+        public void accept(Object object, long value) {
+            accept(object, (Object) value);
+        }
+
+        @Override
+        public double applyAsDouble(Object object) {
+            return (double) apply(object);
+        }
+
+        @Override
+        public void accept(Object object, double value) {
+            accept(object, (Object) value);
+        }
+
+        @Override
+        public boolean test(Object object) {
+            return (boolean) apply(object);
+        }
+
+        @Override
+        public void accept(Object object, boolean value) {
+            accept(object, (Object) value);
+        }
+    }
+
+}
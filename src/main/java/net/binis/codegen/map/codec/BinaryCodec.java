@@ -0,0 +1,958 @@
+package net.binis.codegen.map.codec;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.accessor.Accessors;
+import net.binis.codegen.map.accessor.ObjBooleanConsumer;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import net.binis.codegen.tools.Reflection;
+import net.binis.codegen.tools.TypeUtils;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@SuppressWarnings("unchecked")
+public abstract class BinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xBC;
+    public static final byte VERSION = 1;
+
+    protected static final int INITIAL_BUFFER = 256;
+    protected static final int MAX_POOLED_BUFFER = 1 << 20;
+    protected static final int MAX_DEPTH = 512;
+
+    protected static final byte NULL = 0;
+    protected static final byte TRUE = 1;
+    protected static final byte FALSE = 2;
+    protected static final byte BYTE = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte CHAR = 5;
+    protected static final byte INT = 6;
+    protected static final byte LONG = 7;
+    protected static final byte FLOAT = 8;
+    protected static final byte DOUBLE = 9;
+    protected static final byte STRING = 10;
+    protected static final byte BYTES = 11;
+    protected static final byte ENUM = 12;
+    protected static final byte CODE_ENUM = 13;
+    protected static final byte LIST = 14;
+    protected static final byte SET = 15;
+    protected static final byte MAP = 16;
+    protected static final byte OBJECT = 17;
+    protected static final byte TEXT = 18;
+    protected static final byte ARRAY = 19;
+    protected static final byte SERIALIZED = 20;
+    protected static final byte REFERENCE = 21;
+
+    protected static final Map<Class<?>, Function<String, Object>> TEXT_TYPES = Map.ofEntries(
+            Map.entry(UUID.class, UUID::fromString),
+            Map.entry(BigDecimal.class, BigDecimal::new),
+            Map.entry(BigInteger.class, BigInteger::new),
+            Map.entry(LocalDate.class, LocalDate::parse),
+            Map.entry(LocalTime.class, LocalTime::parse),
+            Map.entry(LocalDateTime.class, LocalDateTime::parse),
+            Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+            Map.entry(OffsetTime.class, OffsetTime::parse),
+            Map.entry(ZonedDateTime.class, ZonedDateTime::parse),
+            Map.entry(Instant.class, Instant::parse),
+            Map.entry(Duration.class, Duration::parse));
+
+    protected static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "short", short.class, "char", char.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class);
+
+    protected static final ClassValue<ObjectPlan> plans = new ClassValue<>() {
+        @Override
+        protected ObjectPlan computeValue(Class<?> type) {
+            return new ObjectPlan(type);
+        }
+    };
+
+    protected static final ClassValue<Set<Class<?>>> reachable = new ClassValue<>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            var result = new HashSet<Class<?>>();
+            reach(type, new HashSet<>(), result);
+            return result;
+        }
+    };
+
+    protected static final ThreadLocal<Writer> writers = ThreadLocal.withInitial(Writer::new);
+    protected static volatile boolean javaSerialization;
+
+    public static void setJavaSerialization(boolean enabled) {
+        javaSerialization = enabled;
+    }
+
+    public static boolean isJavaSerialization() {
+        return javaSerialization;
+    }
+
+    public static byte[] encode(Object value) {
+        var writer = acquire();
+        try {
+            writer.root(value);
+            return Arrays.copyOf(writer.buffer, writer.position);
+        } finally {
+            release(writer);
+        }
+    }
+
+    public static void encode(Object value, ByteBuffer target) {
+        var writer = acquire();
+        try {
+            writer.root(value);
+            target.put(writer.buffer, 0, writer.position);
+        } finally {
+            release(writer);
+        }
+    }
+
+    public static <T> T decode(byte[] data, Class<T> type) {
+        if (data.length > 0 && data[0] == MAGIC) {
+            return decode(ByteBuffer.wrap(data), type);
+        }
+        if (javaSerialization) {
+            return check(deserialize(data), type);
+        }
+        throw new MapperException("Invalid binary payload!");
+    }
+
+    public static <T> T decode(ByteBuffer source, Class<T> type) {
+        try {
+            if (source.remaining() < 2 || source.get() != MAGIC || source.get() != VERSION) {
+                throw new MapperException("Invalid binary payload!");
+            }
+            return check(new Reader(source, type).any(type, 0), type);
+        } catch (MapperException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new MapperException("Malformed binary payload!", e);
+        }
+    }
+
+    protected static <T> T check(Object value, Class<T> type) {
+        if (nonNull(value) && !TypeUtils.getWrapperType(type).isInstance(value)) {
+            throw new MapperException("Decoded value of type " + value.getClass().getCanonicalName() + " is not " + type.getCanonicalName() + "!");
+        }
+        return (T) value;
+    }
+
+    protected static Writer acquire() {
+        var writer = writers.get();
+        if (writer.busy) {
+            writer = new Writer();
+        }
+        writer.busy = true;
+        return writer;
+    }
+
+    protected static void release(Writer writer) {
+        writer.busy = false;
+        writer.position = 0;
+        writer.classes.clear();
+        writer.objects.clear();
+        writer.active.clear();
+        writer.allowed = null;
+        if (writer.buffer.length > MAX_POOLED_BUFFER) {
+            writer.buffer = new byte[INITIAL_BUFFER];
+        }
+    }
+
+    protected static boolean isPlain(Class<?> type) {
+        var name = type.getName();
+        return !type.isHidden() && !type.isSynthetic() && !type.isInterface() && !Modifier.isAbstract(type.getModifiers())
+                && !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("jdk.") && !name.startsWith("sun.") && !name.startsWith("com.sun.");
+    }
+
+    protected static boolean isRegistered(Class<?> type) {
+        for (var intf : type.getInterfaces()) {
+            if (CodeFactory.isRegisteredType(intf) && type.equals(CodeFactory.lookup(intf))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static void reach(Type type, Set<Type> visited, Set<Class<?>> result) {
+        if (isNull(type) || !visited.add(type)) {
+            return;
+        }
+        if (type instanceof Class<?> cls) {
+            if (cls.isArray()) {
+                reach(cls.getComponentType(), visited, result);
+            } else {
+                result.add(cls);
+                if (isPlain(cls)) {
+                    for (var c = cls; nonNull(c) && !Object.class.equals(c); c = c.getSuperclass()) {
+                        for (var field : c.getDeclaredFields()) {
+                            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                                reach(field.getGenericType(), visited, result);
+                            }
+                        }
+                    }
+                }
+            }
+        } else if (type instanceof ParameterizedType parameterized) {
+            reach(parameterized.getRawType(), visited, result);
+            for (var arg : parameterized.getActualTypeArguments()) {
+                reach(arg, visited, result);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            reach(array.getGenericComponentType(), visited, result);
+        } else if (type instanceof WildcardType wildcard) {
+            for (var bound : wildcard.getUpperBounds()) {
+                reach(bound, visited, result);
+            }
+        } else if (type instanceof TypeVariable<?> variable) {
+            for (var bound : variable.getBounds()) {
+                reach(bound, visited, result);
+            }
+        }
+    }
+
+    protected static byte[] serialize(Object value) {
+        try (var bos = new ByteArrayOutputStream(); var os = new ObjectOutputStream(bos)) {
+            os.writeObject(value);
+            os.flush();
+            return bos.toByteArray();
+        } catch (Exception e) {
+            throw new MapperException(e);
+        }
+    }
+
+    protected static Object deserialize(byte[] data) {
+        return deserialize(data, null);
+    }
+
+    protected static Object deserialize(byte[] data, ObjectInputFilter filter) {
+        try (var is = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            if (nonNull(filter)) {
+                is.setObjectInputFilter(filter);
+            }
+            return is.readObject();
+        } catch (Exception e) {
+            throw new MapperException(e);
+        }
+    }
+
+    protected static final class Writer {
+        protected final IdentityHashMap<Class<?>, Integer> classes = new IdentityHashMap<>();
+        protected final IdentityHashMap<Object, Integer> objects = new IdentityHashMap<>();
+        protected final Set<Object> active = Collections.newSetFromMap(new IdentityHashMap<>());
+        protected Set<Class<?>> allowed;
+        protected byte[] buffer = new byte[INITIAL_BUFFER];
+        protected int position;
+        protected boolean busy;
+
+        protected void root(Object value) {
+            ensure(2);
+            buffer[position++] = MAGIC;
+            buffer[position++] = VERSION;
+            allowed = nonNull(value) ? reachable.get(value.getClass()) : Set.of();
+            any(value, 0);
+        }
+
+        protected void any(Object value, int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new MapperException("Binary encoding depth exceeded!");
+            }
+            if (isNull(value)) {
+                tag(NULL);
+            } else if (value instanceof String s) {
+                tag(STRING);
+                string(s);
+            } else if (value instanceof Integer i) {
+                tag(INT);
+                varint(zigzag(i));
+            } else if (value instanceof Long l) {
+                tag(LONG);
+                varlong(zigzag(l));
+            } else if (value instanceof Boolean b) {
+                tag(b ? TRUE : FALSE);
+            } else if (value instanceof Double d) {
+                tag(DOUBLE);
+                fixed64(Double.doubleToRawLongBits(d));
+            } else if (value instanceof Float f) {
+                tag(FLOAT);
+                fixed32(Float.floatToRawIntBits(f));
+            } else if (value instanceof Short s) {
+                tag(SHORT);
+                varint(zigzag(s));
+            } else if (value instanceof Byte b) {
+                tag(BYTE);
+                tag(b);
+            } else if (value instanceof Character c) {
+                tag(CHAR);
+                varint(c);
+            } else if (value instanceof byte[] bytes) {
+                tag(BYTES);
+                bytes(bytes);
+            } else if (value instanceof Enum<?> e) {
+                tag(ENUM);
+                type(e.getDeclaringClass());
+                varint(e.ordinal());
+            } else if (value instanceof CodeEnum e) {
+                tag(CODE_ENUM);
+                type(value.getClass());
+                varint(e.ordinal());
+            } else if (value instanceof Collection || value instanceof Map || value.getClass().isArray()) {
+                if (isNative(value) || !(value instanceof Serializable)) {
+                    container(value, depth);
+                } else {
+                    tag(SERIALIZED);
+                    bytes(serialize(value));
+                }
+            } else if (TEXT_TYPES.containsKey(value.getClass())) {
+                tag(TEXT);
+                type(value.getClass());
+                string(value.toString());
+            } else if (isPlain(value.getClass()) && !plans.get(value.getClass()).custom && (isAllowed(value.getClass()) || !(value instanceof Serializable))) {
+                var index = objects.get(value);
+                if (nonNull(index)) {
+                    tag(REFERENCE);
+                    varint(index);
+                } else {
+                    var plan = plans.get(value.getClass());
+                    objects.put(value, objects.size());
+                    tag(OBJECT);
+                    type(value.getClass());
+                    fixed32(plan.hash);
+                    plan.write(this, value, depth);
+                }
+            } else if (value instanceof Serializable) {
+                tag(SERIALIZED);
+                bytes(serialize(value));
+            } else {
+                throw new MapperException("Unsupported type for binary encoding (" + value.getClass().getCanonicalName() + ")!");
+            }
+        }
+
+        protected void container(Object value, int depth) {
+            if (!active.add(value)) {
+                throw new Cycle(value);
+            }
+            var mark = position;
+            var classCount = classes.size();
+            var objectCount = objects.size();
+            try {
+                if (value instanceof Collection<?> collection) {
+                    tag(value instanceof Set ? SET : LIST);
+                    varint(collection.size());
+                    for (var item : collection) {
+                        any(item, depth + 1);
+                    }
+                } else if (value instanceof Map<?, ?> map) {
+                    tag(MAP);
+                    varint(map.size());
+                    for (var entry : map.entrySet()) {
+                        any(entry.getKey(), depth + 1);
+                        any(entry.getValue(), depth + 1);
+                    }
+                } else {
+                    var length = Array.getLength(value);
+                    tag(ARRAY);
+                    type(value.getClass().getComponentType());
+                    varint(length);
+                    for (var i = 0; i < length; i++) {
+                        any(Array.get(value, i), depth + 1);
+                    }
+                }
+            } catch (Cycle cycle) {
+                if (cycle.value != value || !(value instanceof Serializable)) {
+                    throw cycle;
+                }
+                position = mark;
+                classes.values().removeIf(index -> index >= classCount);
+                objects.values().removeIf(index -> index >= objectCount);
+                tag(SERIALIZED);
+                bytes(serialize(value));
+            } finally {
+                active.remove(value);
+            }
+        }
+
+        protected boolean isNative(Object value) {
+            if (value instanceof Collection) {
+                return (value instanceof List && !(value instanceof Deque)) || (value instanceof Set && !(value instanceof SortedSet));
+            }
+            return !(value instanceof SortedMap);
+        }
+
+        protected boolean isAllowed(Class<?> type) {
+            return allowed.contains(type) || isRegistered(type);
+        }
+
+        protected void type(Class<?> type) {
+            var index = classes.get(type);
+            if (nonNull(index)) {
+                varint(index + 1);
+            } else {
+                classes.put(type, classes.size());
+                varint(0);
+                string(type.getName());
+            }
+        }
+
+        protected void tag(byte value) {
+            ensure(1);
+            buffer[position++] = value;
+        }
+
+        protected void string(String value) {
+            bytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        protected void bytes(byte[] value) {
+            varint(value.length);
+            ensure(value.length);
+            System.arraycopy(value, 0, buffer, position, value.length);
+            position += value.length;
+        }
+
+        protected void varint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        protected void varlong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        protected void fixed32(int value) {
+            ensure(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        protected void fixed64(long value) {
+            fixed32((int) (value >>> 32));
+            fixed32((int) value);
+        }
+
+        protected void ensure(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+
+        protected static int zigzag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+
+        protected static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    protected static final class Cycle extends MapperException {
+        protected final transient Object value;
+
+        protected Cycle(Object value) {
+            super("Cyclic reference in binary encoding (" + value.getClass().getCanonicalName() + ")!");
+            this.value = value;
+        }
+    }
+
+    protected static final class Reader {
+        protected final ByteBuffer buffer;
+        protected final List<Class<?>> classes = new ArrayList<>();
+        protected final List<Object> objects = new ArrayList<>();
+        protected Class<?> root;
+
+        protected Reader(ByteBuffer buffer, Class<?> root) {
+            this.buffer = buffer;
+            this.root = root;
+        }
+
+        protected Object any(Class<?> declared, int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new MapperException("Binary decoding depth exceeded!");
+            }
+            var tag = buffer.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                case BYTE:
+                    return buffer.get();
+                case SHORT:
+                    return (short) unzigzag(varint());
+                case CHAR:
+                    return (char) varint();
+                case INT:
+                    return unzigzag(varint());
+                case LONG:
+                    return unzigzag(varlong());
+                case FLOAT:
+                    return Float.intBitsToFloat(buffer.getInt());
+                case DOUBLE:
+                    return Double.longBitsToDouble(buffer.getLong());
+                case STRING:
+                    return string();
+                case BYTES:
+                    return bytes();
+                case ENUM: {
+                    var type = type(declared);
+                    var ordinal = varint();
+                    if (!type.isEnum()) {
+                        throw new MapperException(type.getCanonicalName() + " is not an enum!");
+                    }
+                    var constants = type.getEnumConstants();
+                    if (ordinal < 0 || ordinal >= constants.length) {
+                        throw new MapperException("Invalid ordinal (" + ordinal + ") for " + type.getCanonicalName() + "!");
+                    }
+                    return constants[ordinal];
+                }
+                case CODE_ENUM: {
+                    var type = type(declared);
+                    var ordinal = varint();
+                    if (!CodeEnum.class.isAssignableFrom(type)) {
+                        throw new MapperException(type.getCanonicalName() + " is not a code enum!");
+                    }
+                    return CodeFactory.enumValueOf((Class) type, ordinal);
+                }
+                case LIST:
+                case SET: {
+                    var size = count();
+                    var result = collection(declared, tag == SET, size);
+                    for (var i = 0; i < size; i++) {
+                        result.add(any(Object.class, depth + 1));
+                    }
+                    return result;
+                }
+                case MAP: {
+                    var size = count();
+                    var result = map(declared, size);
+                    for (var i = 0; i < size; i++) {
+                        result.put(any(Object.class, depth + 1), any(Object.class, depth + 1));
+                    }
+                    return result;
+                }
+                case ARRAY: {
+                    var component = type(Object.class);
+                    var length = count();
+                    var result = Array.newInstance(component, length);
+                    for (var i = 0; i < length; i++) {
+                        Array.set(result, i, any(component, depth + 1));
+                    }
+                    return result;
+                }
+                case TEXT: {
+                    var type = type(declared);
+                    var parser = TEXT_TYPES.get(type);
+                    if (isNull(parser)) {
+                        throw new MapperException("Unsupported text type (" + type.getCanonicalName() + ")!");
+                    }
+                    return parser.apply(string());
+                }
+                case OBJECT: {
+                    var type = type(declared);
+                    if (depth == 0 && !isPlain(root) && Serializable.class.isAssignableFrom(type)) {
+                        root = type;
+                    }
+                    if (!isPlain(type) || !isAllowed(type) || plans.get(type).custom) {
+                        throw new MapperException(type.getCanonicalName() + " is not allowed for binary decoding!");
+                    }
+                    var plan = plans.get(type);
+                    if (buffer.getInt() != plan.hash) {
+                        throw new MapperException("Binary schema mismatch for " + type.getCanonicalName() + "!");
+                    }
+                    return plan.read(this, depth);
+                }
+                case SERIALIZED: {
+                    var data = bytes();
+                    var result = javaSerialization ? deserialize(data) : deserialize(data, info -> filter(info, data.length));
+                    if (nonNull(result) && !TypeUtils.getWrapperType(declared).isInstance(result)) {
+                        throw new MapperException(result.getClass().getCanonicalName() + " is not assignable to " + declared.getCanonicalName() + "!");
+                    }
+                    return result;
+                }
+                case REFERENCE: {
+                    var index = varint();
+                    if (index < 0 || index >= objects.size()) {
+                        throw new MapperException("Invalid binary object reference (" + index + ")!");
+                    }
+                    var result = objects.get(index);
+                    if (!TypeUtils.getWrapperType(declared).isInstance(result)) {
+                        throw new MapperException(result.getClass().getCanonicalName() + " is not assignable to " + declared.getCanonicalName() + "!");
+                    }
+                    return result;
+                }
+                default:
+                    throw new MapperException("Invalid binary tag (" + tag + ")!");
+            }
+        }
+
+        protected Class<?> type(Class<?> declared) {
+            var index = varint();
+            Class<?> result;
+            if (index > 0) {
+                if (index > classes.size()) {
+                    throw new MapperException("Invalid binary class reference (" + index + ")!");
+                }
+                result = classes.get(index - 1);
+            } else {
+                var name = string();
+                result = PRIMITIVES.get(name);
+                if (isNull(result)) {
+                    result = resolve(name);
+                }
+                classes.add(result);
+            }
+            if (!TypeUtils.getWrapperType(declared).isAssignableFrom(TypeUtils.getWrapperType(result)) && !declared.isPrimitive()) {
+                throw new MapperException(result.getCanonicalName() + " is not assignable to " + declared.getCanonicalName() + "!");
+            }
+            return result;
+        }
+
+        protected Class<?> resolve(String name) {
+            var context = Thread.currentThread().getContextClassLoader();
+            var loader = nonNull(root.getClassLoader()) ? root.getClassLoader() : context;
+            try {
+                return Class.forName(name, false, loader);
+            } catch (ClassNotFoundException e) {
+                if (nonNull(context) && context != loader) {
+                    try {
+                        return Class.forName(name, false, context);
+                    } catch (ClassNotFoundException ex) {
+                        //Do nothing
+                    }
+                }
+                throw new MapperException(e);
+            }
+        }
+
+        protected boolean isAllowed(Class<?> type) {
+            return reachable.get(root).contains(type) || isRegistered(type);
+        }
+
+        protected ObjectInputFilter.Status filter(ObjectInputFilter.FilterInfo info, int limit) {
+            if (info.depth() > MAX_DEPTH || info.arrayLength() > limit || info.references() > limit) {
+                return ObjectInputFilter.Status.REJECTED;
+            }
+            var type = info.serialClass();
+            if (isNull(type)) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            while (type.isArray()) {
+                type = type.getComponentType();
+            }
+            return type.isPrimitive() || type.getName().startsWith("java.") || isAllowed(type) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+        }
+
+        protected Collection<Object> collection(Class<?> declared, boolean set, int size) {
+            if (Collection.class.isAssignableFrom(declared) && !declared.isInterface() && !Modifier.isAbstract(declared.getModifiers())) {
+                var result = (Collection<Object>) CodeFactory.create(declared);
+                if (nonNull(result)) {
+                    return result;
+                }
+            }
+            var result = set ? new LinkedHashSet<>(Math.max(16, (int) (size / 0.75f) + 1)) : new ArrayList<>(size);
+            if (!declared.isInstance(result)) {
+                throw new MapperException("Unable to decode collection as " + declared.getCanonicalName() + "!");
+            }
+            return result;
+        }
+
+        protected Map<Object, Object> map(Class<?> declared, int size) {
+            if (Map.class.isAssignableFrom(declared) && !declared.isInterface() && !Modifier.isAbstract(declared.getModifiers())) {
+                var result = (Map<Object, Object>) CodeFactory.create(declared);
+                if (nonNull(result)) {
+                    return result;
+                }
+            }
+            var result = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            if (!declared.isInstance(result)) {
+                throw new MapperException("Unable to decode map as " + declared.getCanonicalName() + "!");
+            }
+            return result;
+        }
+
+        protected String string() {
+            var length = length();
+            if (buffer.hasArray()) {
+                var result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return result;
+            }
+            var bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        protected byte[] bytes() {
+            var result = new byte[length()];
+            buffer.get(result);
+            return result;
+        }
+
+        protected int length() {
+            var length = varint();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new MapperException("Invalid binary length (" + length + ")!");
+            }
+            return length;
+        }
+
+        protected int count() {
+            var count = varint();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new MapperException("Invalid binary element count (" + count + ")!");
+            }
+            return count;
+        }
+
+        protected int varint() {
+            var result = 0;
+            for (var shift = 0; shift < 35; shift += 7) {
+                var b = buffer.get();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new MapperException("Malformed binary varint!");
+        }
+
+        protected long varlong() {
+            var result = 0L;
+            for (var shift = 0; shift < 70; shift += 7) {
+                var b = buffer.get();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new MapperException("Malformed binary varint!");
+        }
+
+        protected static int unzigzag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        protected static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    protected static final class ObjectPlan {
+        protected final Class<?> type;
+        protected final FieldPlan[] fields;
+        protected final int hash;
+        protected final boolean custom;
+        protected volatile Supplier<Object> factory;
+
+        protected ObjectPlan(Class<?> type) {
+            this.type = type;
+            custom = isCustom(type);
+            var hierarchy = new ArrayList<Class<?>>();
+            for (var cls = type; !custom && nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+                hierarchy.add(0, cls);
+            }
+            var list = new ArrayList<FieldPlan>();
+            var h = type.getName().hashCode();
+            for (var cls : hierarchy) {
+                for (var field : cls.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                        list.add(new FieldPlan(field));
+                        h = 31 * (31 * h + field.getName().hashCode()) + field.getType().getName().hashCode();
+                    }
+                }
+            }
+            fields = list.toArray(FieldPlan[]::new);
+            hash = h;
+        }
+
+        protected static boolean isCustom(Class<?> type) {
+            if (Externalizable.class.isAssignableFrom(type)) {
+                return true;
+            }
+            for (var cls = type; nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+                for (var method : cls.getDeclaredMethods()) {
+                    switch (method.getName()) {
+                        case "writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve":
+                            return true;
+                        default:
+                            break;
+                    }
+                }
+            }
+            return false;
+        }
+
+        protected void write(Writer writer, Object value, int depth) {
+            for (var field : fields) {
+                field.write(writer, value, depth);
+            }
+        }
+
+        protected Object read(Reader reader, int depth) {
+            var result = create();
+            reader.objects.add(result);
+            for (var field : fields) {
+                field.read(reader, result, depth);
+            }
+            return result;
+        }
+
+        protected Object create() {
+            var current = factory;
+            if (isNull(current)) {
+                current = compileFactory();
+                factory = current;
+            }
+            return current.get();
+        }
+
+        protected Supplier<Object> compileFactory() {
+            try {
+                Constructor<?> ctor = type.getDeclaredConstructor();
+                ctor.setAccessible(true);
+                return () -> {
+                    try {
+                        return ctor.newInstance();
+                    } catch (Exception e) {
+                        throw new MapperException(e);
+                    }
+                };
+            } catch (Exception e) {
+                var unsafe = Reflection.getUnsafe();
+                return () -> {
+                    try {
+                        return unsafe.allocateInstance(type);
+                    } catch (Exception ex) {
+                        throw new MapperException(ex);
+                    }
+                };
+            }
+        }
+    }
+
+    protected static final class FieldPlan {
+        protected final Class<?> type;
+        protected final Function<Object, Object> getter;
+        protected final BiConsumer<Object, Object> setter;
+        protected final ToIntFunction<Object> intGetter;
+        protected final ObjIntConsumer<Object> intSetter;
+        protected final ToLongFunction<Object> longGetter;
+        protected final ObjLongConsumer<Object> longSetter;
+        protected final ToDoubleFunction<Object> doubleGetter;
+        protected final ObjDoubleConsumer<Object> doubleSetter;
+        protected final Predicate<Object> booleanGetter;
+        protected final ObjBooleanConsumer<Object> booleanSetter;
+
+        protected FieldPlan(java.lang.reflect.Field field) {
+            type = field.getType();
+            var isInt = int.class.equals(type);
+            var isLong = long.class.equals(type);
+            var isDouble = double.class.equals(type);
+            var isBoolean = boolean.class.equals(type);
+            var generic = !isInt && !isLong && !isDouble && !isBoolean;
+            getter = generic ? Accessors.getter(field) : null;
+            setter = generic ? Accessors.setter(field) : null;
+            intGetter = isInt ? Accessors.intGetter(field) : null;
+            intSetter = isInt ? Accessors.intSetter(field) : null;
+            longGetter = isLong ? Accessors.longGetter(field) : null;
+            longSetter = isLong ? Accessors.longSetter(field) : null;
+            doubleGetter = isDouble ? Accessors.doubleGetter(field) : null;
+            doubleSetter = isDouble ? Accessors.doubleSetter(field) : null;
+            booleanGetter = isBoolean ? Accessors.booleanGetter(field) : null;
+            booleanSetter = isBoolean ? Accessors.booleanSetter(field) : null;
+        }
+
+        protected void write(Writer writer, Object object, int depth) {
+            if (nonNull(intGetter)) {
+                writer.varint(Writer.zigzag(intGetter.applyAsInt(object)));
+            } else if (nonNull(longGetter)) {
+                writer.varlong(Writer.zigzag(longGetter.applyAsLong(object)));
+            } else if (nonNull(doubleGetter)) {
+                writer.fixed64(Double.doubleToRawLongBits(doubleGetter.applyAsDouble(object)));
+            } else if (nonNull(booleanGetter)) {
+                writer.tag(booleanGetter.test(object) ? TRUE : FALSE);
+            } else if (type.isPrimitive()) {
+                var value = getter.apply(object);
+                if (value instanceof Float f) {
+                    writer.fixed32(Float.floatToRawIntBits(f));
+                } else if (value instanceof Character c) {
+                    writer.varint(c);
+                } else {
+                    writer.varint(Writer.zigzag(((Number) value).intValue()));
+                }
+            } else {
+                writer.any(getter.apply(object), depth + 1);
+            }
+        }
+
+        protected void read(Reader reader, Object object, int depth) {
+            if (nonNull(intSetter)) {
+                intSetter.accept(object, Reader.unzigzag(reader.varint()));
+            } else if (nonNull(longSetter)) {
+                longSetter.accept(object, Reader.unzigzag(reader.varlong()));
+            } else if (nonNull(doubleSetter)) {
+                doubleSetter.accept(object, Double.longBitsToDouble(reader.buffer.getLong()));
+            } else if (nonNull(booleanSetter)) {
+                booleanSetter.accept(object, reader.buffer.get() == TRUE);
+            } else if (float.class.equals(type)) {
+                setter.accept(object, Float.intBitsToFloat(reader.buffer.getInt()));
+            } else if (char.class.equals(type)) {
+                setter.accept(object, (char) reader.varint());
+            } else if (byte.class.equals(type)) {
+                setter.accept(object, (byte) Reader.unzigzag(reader.varint()));
+            } else if (short.class.equals(type)) {
+                setter.accept(object, (short) Reader.unzigzag(reader.varint()));
+            } else {
+                setter.accept(object, reader.any(type, depth + 1));
+            }
+        }
+    }
+
+    private BinaryCodec() {
+        //Do nothing
+    }
+
+}
@@ -0,0 +1,527 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.Mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public abstract class ArrayConversions {
+
+    public static final List<Class<?>> NUMERIC_ARRAYS = List.of(int[].class, long[].class, short[].class, float[].class, double[].class);
+    public static final List<Class<?>> PRIMITIVE_ARRAYS = List.of(int[].class, long[].class, short[].class, byte[].class, float[].class, double[].class, boolean[].class, char[].class);
+
+    public static Object toArray(Collection<?> source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            return toIntArray(source);
+        } else if (long[].class.equals(destination)) {
+            return toLongArray(source);
+        } else if (short[].class.equals(destination)) {
+            return toShortArray(source);
+        } else if (byte[].class.equals(destination)) {
+            return toByteArray(source);
+        } else if (float[].class.equals(destination)) {
+            return toFloatArray(source);
+        } else if (double[].class.equals(destination)) {
+            return toDoubleArray(source);
+        } else if (boolean[].class.equals(destination)) {
+            return toBooleanArray(source);
+        } else if (char[].class.equals(destination)) {
+            return toCharArray(source);
+        }
+        throw new MapperException("Unsupported array type (" + destination.getCanonicalName() + ")!");
+    }
+
+    public static List<Object> addAll(Object source, List<Object> destination) {
+        if (source instanceof int[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof long[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof short[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof byte[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof float[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof double[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof boolean[] array) {
+            return addAll(array, destination);
+        } else if (source instanceof char[] array) {
+            return addAll(array, destination);
+        }
+        throw new MapperException("Unsupported array type (" + source.getClass().getCanonicalName() + ")!");
+    }
+
+    public static int[] toIntArray(Collection<?> source) {
+        var result = new int[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.intValue();
+            } else {
+                result[i] = Mapper.convert(item, int.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static long[] toLongArray(Collection<?> source) {
+        var result = new long[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.longValue();
+            } else {
+                result[i] = Mapper.convert(item, long.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static short[] toShortArray(Collection<?> source) {
+        var result = new short[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.shortValue();
+            } else {
+                result[i] = Mapper.convert(item, short.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static byte[] toByteArray(Collection<?> source) {
+        var result = new byte[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.byteValue();
+            } else {
+                result[i] = Mapper.convert(item, byte.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static float[] toFloatArray(Collection<?> source) {
+        var result = new float[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.floatValue();
+            } else {
+                result[i] = Mapper.convert(item, float.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static double[] toDoubleArray(Collection<?> source) {
+        var result = new double[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Number value) {
+                result[i] = value.doubleValue();
+            } else {
+                result[i] = Mapper.convert(item, double.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static boolean[] toBooleanArray(Collection<?> source) {
+        var result = new boolean[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Boolean value) {
+                result[i] = value;
+            } else {
+                result[i] = Mapper.convert(item, boolean.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static char[] toCharArray(Collection<?> source) {
+        var result = new char[source.size()];
+        var i = 0;
+        for (var item : source) {
+            if (item instanceof Character value) {
+                result[i] = value;
+            } else {
+                result[i] = Mapper.convert(item, char.class);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    public static List<Object> addAll(int[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(long[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(short[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(byte[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(float[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(double[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(boolean[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static List<Object> addAll(char[] source, List<Object> destination) {
+        if (destination instanceof ArrayList<Object> list) {
+            list.ensureCapacity(list.size() + source.length);
+        }
+        for (var item : source) {
+            destination.add(item);
+        }
+        return destination;
+    }
+
+    public static Object convert(Object source, Class<?> destination) {
+        if (source instanceof int[] array) {
+            return convert(array, destination);
+        } else if (source instanceof long[] array) {
+            return convert(array, destination);
+        } else if (source instanceof short[] array) {
+            return convert(array, destination);
+        } else if (source instanceof byte[] array) {
+            return convert(array, destination);
+        } else if (source instanceof float[] array) {
+            return convert(array, destination);
+        } else if (source instanceof double[] array) {
+            return convert(array, destination);
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(int[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (short) source[i];
+            }
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (byte) source[i];
+            }
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(long[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (int) source[i];
+            }
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (short) source[i];
+            }
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (byte) source[i];
+            }
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(short[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (byte) source[i];
+            }
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(byte[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(float[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (int) source[i];
+            }
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (long) source[i];
+            }
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (short) source[i];
+            }
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (byte) source[i];
+            }
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = source[i];
+            }
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    public static Object convert(double[] source, Class<?> destination) {
+        if (int[].class.equals(destination)) {
+            var result = new int[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (int) source[i];
+            }
+            return result;
+        } else if (long[].class.equals(destination)) {
+            var result = new long[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (long) source[i];
+            }
+            return result;
+        } else if (short[].class.equals(destination)) {
+            var result = new short[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (short) source[i];
+            }
+            return result;
+        } else if (byte[].class.equals(destination)) {
+            var result = new byte[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (byte) source[i];
+            }
+            return result;
+        } else if (float[].class.equals(destination)) {
+            var result = new float[source.length];
+            for (var i = 0; i < source.length; i++) {
+                result[i] = (float) source[i];
+            }
+            return result;
+        } else if (double[].class.equals(destination)) {
+            var result = new double[source.length];
+            System.arraycopy(source, 0, result, 0, source.length);
+            return result;
+        }
+        throw unsupported(source, destination);
+    }
+
+    protected static MapperException unsupported(Object source, Class<?> destination) {
+        return new MapperException("Unsupported array conversion (" + source.getClass().getCanonicalName() + "->" + destination.getCanonicalName() + ")!");
+    }
+
+    private ArrayConversions() {
+        //Do nothing
+    }
+
+}
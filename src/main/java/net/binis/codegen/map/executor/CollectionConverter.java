@@ -0,0 +1,154 @@
+package net.binis.codegen.map.executor;
+
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.MapperFactory;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@SuppressWarnings("unchecked")
+public class CollectionConverter extends ConverterCache {
+
+    protected final IntFunction<Object> creator;
+    protected final ConverterCache element;
+    protected final ConverterCache value;
+
+    protected CollectionConverter(MapperFactory factory, Class<?> source, Class<?> destination, Class<?> type, boolean convert, ConverterCache element, ConverterCache value) {
+        super(factory, source, destination, type, convert);
+        this.creator = creator(type);
+        this.element = element;
+        this.value = value;
+    }
+
+    public static CollectionConverter of(MapperFactory factory, Class<?> source, Class<?> destination, Member getter, Member setter, boolean convert) {
+        return of(factory, source, destination, genericType(getter, false), genericType(setter, true), convert);
+    }
+
+    public static CollectionConverter of(MapperFactory factory, Class<?> source, Class<?> destination, Type sourceType, Type destinationType, boolean convert) {
+        var srcRaw = rawType(sourceType);
+        var destRaw = rawType(destinationType);
+        if (isNull(srcRaw) || isNull(destRaw)) {
+            return null;
+        }
+        if (Collection.class.isAssignableFrom(srcRaw) && Collection.class.isAssignableFrom(destRaw)) {
+            var element = elementConverter(factory, typeArgument(sourceType, 0, 1), typeArgument(destinationType, 0, 1), convert);
+            if (nonNull(element) || !destRaw.isAssignableFrom(srcRaw)) {
+                return new CollectionConverter(factory, source, destination, destRaw, convert, element, null);
+            }
+        } else if (Map.class.isAssignableFrom(srcRaw) && Map.class.isAssignableFrom(destRaw)) {
+            var key = elementConverter(factory, typeArgument(sourceType, 0, 2), typeArgument(destinationType, 0, 2), convert);
+            var val = elementConverter(factory, typeArgument(sourceType, 1, 2), typeArgument(destinationType, 1, 2), convert);
+            if (nonNull(key) || nonNull(val) || !destRaw.isAssignableFrom(srcRaw)) {
+                return new CollectionConverter(factory, source, destination, destRaw, convert, key, val);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object map(Object value) {
+        if (value instanceof Collection<?> collection) {
+            var result = (Collection<Object>) creator.apply(collection.size());
+            for (var item : collection) {
+                result.add(convert(element, item));
+            }
+            return result;
+        } else if (value instanceof Map<?, ?> map) {
+            var result = (Map<Object, Object>) creator.apply(map.size());
+            for (var entry : map.entrySet()) {
+                result.put(convert(element, entry.getKey()), convert(this.value, entry.getValue()));
+            }
+            return result;
+        }
+        return isNull(value) ? null : super.map(value);
+    }
+
+    protected static Object convert(ConverterCache cache, Object value) {
+        return nonNull(cache) && nonNull(value) ? cache.map(value) : value;
+    }
+
+    protected static ConverterCache elementConverter(MapperFactory factory, Class<?> source, Class<?> destination, boolean convert) {
+        if (isNull(source) || isNull(destination) || Object.class.equals(destination) || destination.isAssignableFrom(source)) {
+            return null;
+        }
+        return new ConverterCache(factory, destination, convert);
+    }
+
+    protected static IntFunction<Object> creator(Class<?> type) {
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (type.isAssignableFrom(HashSet.class)) {
+            return size -> new HashSet<>(capacity(size));
+        } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return size -> new LinkedHashSet<>(capacity(size));
+        } else if (type.isAssignableFrom(TreeSet.class)) {
+            return size -> new TreeSet<>();
+        } else if (type.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        } else if (type.isAssignableFrom(HashMap.class)) {
+            return size -> new HashMap<>(capacity(size));
+        } else if (type.isAssignableFrom(LinkedHashMap.class)) {
+            return size -> new LinkedHashMap<>(capacity(size));
+        } else if (type.isAssignableFrom(TreeMap.class)) {
+            return size -> new TreeMap<>();
+        }
+        return size -> CodeFactory.create(type);
+    }
+
+    protected static int capacity(int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+
+    public static Type genericType(Member member, boolean setter) {
+        if (member instanceof Field field) {
+            return field.getGenericType();
+        } else if (member instanceof Method method) {
+            return setter ? method.getGenericParameterTypes()[0] : method.getGenericReturnType();
+        }
+        return null;
+    }
+
+    protected static Class<?> typeArgument(Type type, int index, int count) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments().length == count) {
+            return rawType(parameterized.getActualTypeArguments()[index]);
+        }
+        return null;
+    }
+
+    protected static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        } else if (type instanceof WildcardType wildcard && wildcard.getLowerBounds().length == 0) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        return null;
+    }
+
+}
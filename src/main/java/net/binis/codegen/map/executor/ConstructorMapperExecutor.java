@@ -0,0 +1,259 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingChanges;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.accessor.Accessors;
+import net.binis.codegen.tools.Reflection;
+import net.binis.codegen.tools.TypeUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@SuppressWarnings("unchecked")
+public class ConstructorMapperExecutor<T> extends MapperExecutor<T> {
+
+    protected Constructor<?> constructor;
+    protected MethodHandle handle;
+    protected ConstructorArgument[] arguments;
+
+    public ConstructorMapperExecutor(MapperFactory factory, Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        super(factory, source, destination, convert, producer, strategy, key);
+    }
+
+    public static boolean isSupported(Class<?> source, Class<?> destination, MappingStrategy strategy) {
+        return (MappingStrategy.CONSTRUCTOR.equals(strategy) || destination.isRecord())
+                && !destination.isInterface() && !destination.isPrimitive() && !destination.isArray() && !destination.isEnum()
+                && !Modifier.isAbstract(destination.getModifiers()) && !destination.getName().startsWith("java.")
+                && nonNull(findConstructor(destination));
+    }
+
+    public static Constructor<?> findConstructor(Class<?> destination) {
+        if (destination.isRecord()) {
+            try {
+                return destination.getDeclaredConstructor(Arrays.stream(destination.getRecordComponents()).map(RecordComponent::getType).toArray(Class[]::new));
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        Constructor<?> result = null;
+        for (var ctor : destination.getDeclaredConstructors()) {
+            if (ctor.getParameterCount() > 0 && !ctor.isSynthetic() && (isNull(result) || ctor.getParameterCount() > result.getParameterCount()) && nonNull(parameterNames(ctor))) {
+                result = ctor;
+            }
+        }
+        return result;
+    }
+
+    protected static String[] parameterNames(Constructor<?> ctor) {
+        var params = ctor.getParameters();
+        var result = new String[params.length];
+        if (ctor.getDeclaringClass().isRecord()) {
+            var components = ctor.getDeclaringClass().getRecordComponents();
+            for (var i = 0; i < components.length; i++) {
+                result[i] = components[i].getName();
+            }
+            return result;
+        }
+        if (params.length > 0 && params[0].isNamePresent()) {
+            for (var i = 0; i < params.length; i++) {
+                result[i] = params[i].getName();
+            }
+            return result;
+        }
+        var fields = new ArrayList<Field>();
+        for (var cls = (Class<?>) ctor.getDeclaringClass(); nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            var declared = new ArrayList<Field>();
+            for (var field : cls.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    declared.add(field);
+                }
+            }
+            fields.addAll(0, declared);
+        }
+        if (fields.size() != params.length) {
+            return null;
+        }
+        var types = new HashSet<Class<?>>();
+        for (var i = 0; i < params.length; i++) {
+            if (!fields.get(i).getType().equals(params[i].getType()) || !types.add(params[i].getType())) {
+                return null;
+            }
+            result[i] = fields.get(i).getName();
+        }
+        return result;
+    }
+
+    @Override
+    public T map(Object source, T destination) {
+        return construct(source, null);
+    }
+
+    @Override
+    public MappingChanges<T> mapChanges(Object source, T destination) {
+        throw new MapperException("Incremental mapping is not supported for constructor mapping (" + source.getClass().getCanonicalName() + "->" + this.destination.getCanonicalName() + ")!");
+    }
+
+    @Override
+    public List<String> fieldNames() {
+        return Arrays.stream(arguments).map(argument -> argument.name).toList();
+    }
+
+    @Override
+    protected BiFunction<Object, T, T> buildPartial(BitSet mask) {
+        return (s, d) -> construct(s, mask);
+    }
+
+    protected T construct(Object source, BitSet mask) {
+        var args = new Object[arguments.length];
+        for (var i = 0; i < args.length; i++) {
+            args[i] = isNull(mask) || mask.get(i) ? arguments[i].read(source) : arguments[i].defaultValue;
+        }
+        try {
+            return (T) (Object) handle.invokeExact(args);
+        } catch (Throwable e) {
+            throw new MapperException("Unable to construct " + this.destination.getCanonicalName() + " for mapping (" + source.getClass().getCanonicalName() + "->" + this.destination.getCanonicalName() + ")!", e instanceof Exception ex ? ex : new RuntimeException(e));
+        }
+    }
+
+    @Override
+    public List<String> explain() {
+        var result = new ArrayList<String>();
+        for (var argument : arguments) {
+            result.add(argument.name + ": CONSTRUCTOR " + (nonNull(argument.getter) ? argument.getter.getName() : Map.class.isAssignableFrom(source) ? "get" : "default") + " -> " + argument.type.getSimpleName()
+                    + (nonNull(argument.cache) ? " [CONVERTER]" : ""));
+        }
+        return result;
+    }
+
+    @Override
+    protected void build() {
+        constructor = findConstructor(destination);
+        if (isNull(constructor)) {
+            throw new MapperException("Unable to find constructor for " + destination.getCanonicalName() + "!");
+        }
+        var names = parameterNames(constructor);
+        var types = constructor.getParameterTypes();
+        var generics = constructor.getGenericParameterTypes();
+        if (generics.length != types.length) {
+            generics = types;
+        }
+        var list = new ArrayList<ConstructorArgument>(types.length);
+        for (var i = 0; i < types.length; i++) {
+            list.add(new ConstructorArgument(names[i], types[i], generics[i], findGetter(names[i])));
+        }
+        arguments = list.toArray(ConstructorMapperExecutor.ConstructorArgument[]::new);
+        try {
+            constructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (Exception e) {
+            throw new MapperException("Constructor of " + destination.getCanonicalName() + " is not accessible!", e);
+        }
+        properties = new LinkedHashMap<>();
+        mapper = this::map;
+    }
+
+    protected Member findGetter(String name) {
+        if (Map.class.isAssignableFrom(source)) {
+            return null;
+        }
+        var suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (var method : new String[]{"get" + suffix, "is" + suffix, name}) {
+            try {
+                var result = source.getMethod(method);
+                if (!Modifier.isStatic(result.getModifiers()) && !void.class.equals(result.getReturnType()) && shouldNotSkip(result)) {
+                    result.setAccessible(true);
+                    return result;
+                }
+            } catch (Exception e) {
+                //Continue
+            }
+        }
+        var field = Reflection.findField(source, name);
+        if (nonNull(field) && !Modifier.isStatic(field.getModifiers()) && shouldNotSkip(field)) {
+            return field;
+        }
+        return null;
+    }
+
+    protected class ConstructorArgument {
+        protected final String name;
+        protected final Class<?> type;
+        protected final Class<?> wrapper;
+        protected final Member getter;
+        protected final Function<Object, Object> get;
+        protected final ConverterCache cache;
+        protected final boolean elements;
+        protected final Object defaultValue;
+
+        public ConstructorArgument(String name, Class<?> type, Type generic, Member getter) {
+            this.name = name;
+            this.type = type;
+            this.wrapper = TypeUtils.getWrapperType(type);
+            this.getter = getter;
+            this.get = nonNull(getter) ? Accessors.getter(getter) : null;
+            this.defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+            var valueType = getter instanceof Method m ? m.getReturnType() : getter instanceof Field f ? f.getType() : Object.class;
+            var converter = nonNull(getter) ? CollectionConverter.of(factory, source, destination, CollectionConverter.genericType(getter, false), generic, false) : null;
+            this.elements = nonNull(converter);
+            if (elements) {
+                this.cache = converter;
+            } else {
+                this.cache = nonNull(getter) && wrapper.isAssignableFrom(TypeUtils.getWrapperType(valueType)) ? null : new ConverterCache(factory, source, destination, type, false);
+            }
+        }
+
+        public Object read(Object source) {
+            Object value;
+            try {
+                value = nonNull(get) ? get.apply(source) : source instanceof Map<?, ?> map ? map.get(name) : null;
+                if (nonNull(value) && nonNull(cache) && (elements || !wrapper.isInstance(value))) {
+                    value = cache.map(value);
+                }
+            } catch (Exception e) {
+                throw new MapperException("Unable to map value for constructor parameter (" + name + ") for mapping (" + source.getClass().getCanonicalName() + "->" + destination.getCanonicalName() + ")!", e);
+            }
+            return isNull(value) ? defaultValue : value;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.Mapping;
+
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ConverterCache {
+
+    protected static final int SIZE = 4;
+
+    protected final MapperFactory factory;
+    protected final DefaultMapperExecutor monitor;
+    protected final Class<?> source;
+    protected final Class<?> destination;
+    protected final Class<?> type;
+    protected final boolean convert;
+    protected volatile Entries entries;
+
+    public ConverterCache(MapperFactory factory, Class<?> type, boolean convert) {
+        this(factory, null, null, type, convert);
+    }
+
+    public ConverterCache(MapperFactory factory, Class<?> source, Class<?> destination, Class<?> type, boolean convert) {
+        this.factory = factory;
+        this.monitor = factory instanceof DefaultMapperExecutor executor ? executor : null;
+        this.source = source;
+        this.destination = destination;
+        this.type = type;
+        this.convert = convert;
+    }
+
+    public Object map(Object value) {
+        if (nonNull(monitor) && nonNull(source)) {
+            var stats = monitor.statistics;
+            if (nonNull(stats)) {
+                stats.hop(source, destination);
+            }
+        }
+        if (isNull(value) || nonNull(monitor) && monitor.isGraph()) {
+            return resolve(value);
+        }
+
+        var cls = value.getClass();
+        var current = entries;
+        if (nonNull(current) && current.stamp == factory.getModifications()) {
+            var classes = current.classes;
+            for (var i = 0; i < classes.length; i++) {
+                if (classes[i] == cls) {
+                    return apply(current.mappings[i], value);
+                }
+            }
+        }
+        return miss(value, cls, current);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int size() {
+        var current = entries;
+        return nonNull(current) && current.stamp == factory.getModifications() ? current.classes.length : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Object apply(Mapping mapping, Object value) {
+        if (convert) {
+            return mapping.map(value, CodeFactory.create(type));
+        } else {
+            return mapping.map(value, null);
+        }
+    }
+
+    protected Object resolve(Object value) {
+        if (convert) {
+            return factory.convert(value, type);
+        } else {
+            return factory.map(value, type);
+        }
+    }
+
+    protected Object miss(Object value, Class<?> cls, Entries current) {
+        var stamp = factory.getModifications();
+        var result = resolve(value);
+        var mapping = factory.getExactMap(cls, type);
+        if (nonNull(mapping)) {
+            if (nonNull(current) && current.stamp == stamp) {
+                if (current.classes.length < SIZE) {
+                    entries = current.add(cls, mapping);
+                }
+            } else {
+                entries = new Entries(stamp, new Class<?>[]{cls}, new Mapping[]{mapping});
+            }
+        }
+        return result;
+    }
+
+    protected static final class Entries {
+        protected final long stamp;
+        protected final Class<?>[] classes;
+        protected final Mapping[] mappings;
+
+        protected Entries(long stamp, Class<?>[] classes, Mapping[] mappings) {
+            this.stamp = stamp;
+            this.classes = classes;
+            this.mappings = mappings;
+        }
+
+        protected Entries add(Class<?> cls, Mapping mapping) {
+            var c = Arrays.copyOf(classes, classes.length + 1);
+            var m = Arrays.copyOf(mappings, mappings.length + 1);
+            c[classes.length] = cls;
+            m[mappings.length] = mapping;
+            return new Entries(stamp, c, m);
+        }
+    }
+
+}
@@ -20,25 +20,54 @@ package net.binis.codegen.map.executor;
  * #L%
  */
 
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.async.Async;
+import net.binis.codegen.async.executor.CodeExecutor;
+import net.binis.codegen.exception.MapperException;
 import net.binis.codegen.factory.CodeFactory;
 import net.binis.codegen.map.MapperFactory;
 import net.binis.codegen.map.Mapping;
+import net.binis.codegen.map.MappingChanges;
 import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.monitoring.CacheStatistics;
+import net.binis.codegen.map.monitoring.MapperMonitor;
+import net.binis.codegen.map.monitoring.MappingStatistics;
+import net.binis.codegen.tools.ClassPairRegistry;
 
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
+@Slf4j
 @SuppressWarnings("unchecked")
-public class DefaultMapperExecutor implements MapperFactory {
+public class DefaultMapperExecutor implements MapperFactory, MapperMonitor {
 
     protected static final String DESTINATION_CANNOT_BE_NULL = "Destination cannot be null";
-    protected final Map<String, Map<Object, Mapping>> mappers = new ConcurrentHashMap<>();
+    protected static final int BATCH_CHUNK = 1024;
+    protected static final String RESET = "?!?reset?!?";
+    protected volatile ClassPairRegistry<Registration> mappers = createRegistry();
+    protected volatile Map<Registration, Boolean> resolved = createResolved();
+    protected volatile Map<Registration, Boolean> built = createResolved();
+    protected final AtomicLong modifications = new AtomicLong();
+    protected volatile boolean codeGeneration;
+    protected volatile MapperWarmup recorder;
+    protected volatile MapperStatistics statistics;
+    protected final ThreadLocal<MappingGraph> graph = new ThreadLocal<>();
+    protected final AtomicInteger graphs = new AtomicInteger();
+    protected final Map<BuildKey, CompletableFuture<MapperExecutor>> inFlight = new ConcurrentHashMap<>();
+    protected final ThreadLocal<BuildKey> building = new ThreadLocal<>();
+    protected volatile MapperCache cache;
 
     @Override
     public <T> T map(Object source, Class<T> destination) {
@@ -80,7 +109,36 @@ public class DefaultMapperExecutor implements MapperFactory {
         if (isNull(mapper)) {
             mapper = buildMapper(source, destination, false, strategy, key);
         }
-        return (T) mapper.map(source, destination);
+        return (T) invoke(mapper, source, destination, cls);
+    }
+
+    @Override
+    public <T> T mapPartial(Object source, Class<T> destination, Collection<String> fields) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return partial(source, null, destination, executor -> executor.mask(fields));
+    }
+
+    @Override
+    public <T> T mapPartial(Object source, T destination, Collection<String> fields) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return partial(source, destination, (Class<T>) destination.getClass(), executor -> executor.mask(fields));
+    }
+
+    @Override
+    public <T> T mapPartial(Object source, Class<T> destination, Class<?> projection) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return partial(source, null, destination, executor -> executor.mask(projection));
+    }
+
+    protected <T> T partial(Object source, T destination, Class<T> cls, Function<MapperExecutor<?>, BitSet> mask) {
+        if (isNull(source)) {
+            return handleNullSource(destination, cls);
+        }
+        var mapper = resolveMapper(source.getClass(), cls, false, MappingStrategy.GETTERS_SETTERS, DEFAULT);
+        if (mapper instanceof MapperExecutor<?> executor) {
+            mapper = executor.partial(mask.apply(executor));
+        }
+        return (T) invoke(mapper, source, destination, cls);
     }
 
     protected <T, K> T mapClass(Object source, Class<T> cls, MappingStrategy strategy, K key) {
@@ -92,7 +150,7 @@ public class DefaultMapperExecutor implements MapperFactory {
         if (isNull(mapper)) {
             mapper = buildMapperClass(source.getClass(), cls, false, true, strategy, key);
         }
-        return (T) mapper.map(source, null);
+        return (T) invoke(mapper, source, null, cls);
     }
 
     @Override
@@ -168,7 +226,7 @@ public class DefaultMapperExecutor implements MapperFactory {
         if (isNull(mapper)) {
             mapper = buildMapper(source, destination, true, strategy, key);
         }
-        return (T) mapper.map(source, destination);
+        return (T) invoke(mapper, source, destination, destination.getClass());
     }
 
     protected <T, K> T convert(Object source, T destination, Class<T> cls, MappingStrategy strategy, K key) {
@@ -179,7 +237,367 @@ public class DefaultMapperExecutor implements MapperFactory {
         if (isNull(mapper)) {
             mapper = buildMapperClass(source.getClass(), cls, true, true, strategy, key);
         }
-        return (T) mapper.map(source, destination);
+        return (T) invoke(mapper, source, destination, cls);
+    }
+
+    @Override
+    public <T> List<T> mapAll(Collection<?> source, Class<T> destination) {
+        return mapAll(source, destination, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> List<T> mapAll(Collection<?> source, Class<T> destination, MappingStrategy strategy) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batch(source.toArray(), 0, source.size(), destination, false, strategy);
+    }
+
+    @Override
+    public <T> List<T> mapAll(Object[] source, Class<T> destination) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batch(source, 0, source.length, destination, false, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination) {
+        return mapAllParallel(source, destination, CodeExecutor.DEFAULT);
+    }
+
+    @Override
+    public <T> List<T> mapAllParallel(Collection<?> source, Class<T> destination, String flow) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        var items = source.toArray();
+        if (items.length <= BATCH_CHUNK) {
+            return batch(items, 0, items.length, destination, false, MappingStrategy.GETTERS_SETTERS);
+        }
+
+        try {
+            return batchAsync(items, destination, false, MappingStrategy.GETTERS_SETTERS, flow).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MapperException ex) {
+                throw ex;
+            }
+            throw new MapperException(e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination) {
+        return mapAllAsync(source, destination, CodeExecutor.DEFAULT);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> mapAllAsync(Collection<?> source, Class<T> destination, String flow) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batchAsync(source.toArray(), destination, false, MappingStrategy.GETTERS_SETTERS, flow);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination) {
+        return mapAsync(source, destination, CodeExecutor.DEFAULT);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> mapAsync(Object source, Class<T> destination, String flow) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return Async.<T>start(flow).collect(() -> map(source, destination));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination) {
+        return convertAllAsync(source, destination, CodeExecutor.DEFAULT);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> convertAllAsync(Collection<?> source, Class<T> destination, String flow) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batchAsync(source.toArray(), destination, true, MappingStrategy.GETTERS_SETTERS, flow);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination) {
+        return convertAsync(source, destination, CodeExecutor.DEFAULT);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> convertAsync(Object source, Class<T> destination, String flow) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return Async.<T>start(flow).collect(() -> convert(source, destination));
+    }
+
+    protected <T> CompletableFuture<List<T>> batchAsync(Object[] items, Class<T> destination, boolean convert, MappingStrategy strategy, String flow) {
+        if (items.length <= BATCH_CHUNK) {
+            return Async.<List<T>>start(flow).collect(() -> batch(items, 0, items.length, destination, convert, strategy));
+        }
+
+        var result = new Object[items.length];
+        var futures = new ArrayList<CompletableFuture<Object>>();
+        for (var start = 0; start < items.length; start += BATCH_CHUNK) {
+            var from = start;
+            var to = Math.min(items.length, start + BATCH_CHUNK);
+            futures.add(Async.start(flow).execute(() -> {
+                var chunk = batch(items, from, to, destination, convert, strategy);
+                for (var i = 0; i < chunk.size(); i++) {
+                    result[from + i] = chunk.get(i);
+                }
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> new ArrayList<>((List) Arrays.asList(result)));
+    }
+
+    @Override
+    public <T> List<T> mapInto(List<?> source, List<T> destination) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        if (source.size() != destination.size()) {
+            throw new MapperException("Unable to map list of " + source.size() + " elements into list of " + destination.size() + " elements!");
+        }
+        Class<?> last = null;
+        Mapping mapper = null;
+        var src = source.iterator();
+        var dest = destination.listIterator();
+        while (src.hasNext()) {
+            var item = src.next();
+            var target = dest.next();
+            Objects.requireNonNull(target, DESTINATION_CANNOT_BE_NULL);
+            if (isNull(item)) {
+                continue;
+            }
+            if (item.getClass() != last || target.getClass() != mapper.getDestination()) {
+                last = item.getClass();
+                mapper = resolveMapper(last, target.getClass(), false, MappingStrategy.GETTERS_SETTERS, DEFAULT);
+            }
+            dest.set((T) invoke(mapper, item, target, target.getClass()));
+        }
+        return destination;
+    }
+
+    @Override
+    public <T> Stream<T> stream(Stream<?> source, Class<T> destination) {
+        return stream(source, destination, false);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Stream<?> source, Class<T> destination, boolean recycle) {
+        return StreamSupport.stream(spliterator(source.spliterator(), destination, recycle), source.isParallel()).onClose(source::close);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Iterator<?> source, Class<T> destination) {
+        return StreamSupport.stream(spliterator(Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), destination, false), false);
+    }
+
+    @Override
+    public <T> Spliterator<T> spliterator(Spliterator<?> source, Class<T> destination, boolean recycle) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        //Recycled instances are reset from a pristine one before each item, so values skipped for null sources don't leak from the previous item
+        var reset = recycle ? resolveMapper(destination, destination, false, MappingStrategy.FIELDS, RESET) : null;
+        return new MappingSpliterator<>(source, destination, recycle, cls -> resolveMapper(cls, destination, false, MappingStrategy.GETTERS_SETTERS, DEFAULT), reset);
+    }
+
+    @Override
+    public <T> List<T> convertAll(Collection<?> source, Class<T> destination) {
+        return convertAll(source, destination, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> List<T> convertAll(Collection<?> source, Class<T> destination, MappingStrategy strategy) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batch(source.toArray(), 0, source.size(), destination, true, strategy);
+    }
+
+    @Override
+    public <T> List<T> convertAll(Object[] source, Class<T> destination) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        return batch(source, 0, source.length, destination, true, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> MappingChanges<T> mapChanges(Object source, T destination) {
+        return mapChanges(source, destination, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> MappingChanges<T> mapChanges(Object source, T destination, MappingStrategy strategy) {
+        Objects.requireNonNull(destination, DESTINATION_CANNOT_BE_NULL);
+        if (isNull(source)) {
+            return new MappingChanges<>(destination, List.of());
+        }
+        var mapper = getMapper(source.getClass(), destination.getClass(), DEFAULT);
+        if (isNull(mapper)) {
+            mapper = buildMapper(source, destination, false, strategy, DEFAULT);
+        }
+        if (mapper instanceof MapperExecutor executor) {
+            var stats = statistics;
+            if (isNull(stats)) {
+                return executor.mapChanges(source, destination);
+            }
+            var start = System.nanoTime();
+            try {
+                return executor.mapChanges(source, destination);
+            } finally {
+                stats.invocation(source.getClass(), destination.getClass(), System.nanoTime() - start);
+            }
+        }
+        throw new MapperException("Incremental mapping is not supported for " + source.getClass().getCanonicalName() + " -> " + destination.getClass().getCanonicalName() + "!");
+    }
+
+    @Override
+    public <T> T mapGraph(Object source, Class<T> destination) {
+        return graph(source, destination, false, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> T mapGraph(Object source, Class<T> destination, MappingStrategy strategy) {
+        return graph(source, destination, false, strategy);
+    }
+
+    @Override
+    public <T> T convertGraph(Object source, Class<T> destination) {
+        return graph(source, destination, true, MappingStrategy.GETTERS_SETTERS);
+    }
+
+    @Override
+    public <T> T convertGraph(Object source, Class<T> destination, MappingStrategy strategy) {
+        return graph(source, destination, true, strategy);
+    }
+
+    protected <T> T graph(Object source, Class<T> cls, boolean convert, MappingStrategy strategy) {
+        Objects.requireNonNull(cls, DESTINATION_CANNOT_BE_NULL);
+        if (nonNull(graph.get())) {
+            return convert ? convert(source, cls, strategy) : mapClass(source, cls, strategy, DEFAULT);
+        }
+        graph.set(new MappingGraph());
+        graphs.incrementAndGet();
+        try {
+            return convert ? convert(source, cls, strategy) : mapClass(source, cls, strategy, DEFAULT);
+        } finally {
+            graphs.decrementAndGet();
+            graph.remove();
+        }
+    }
+
+    public boolean isGraph() {
+        return graphs.get() > 0 && nonNull(graph.get());
+    }
+
+    protected <T> List<T> batch(Object[] source, int from, int to, Class<T> cls, boolean convert, MappingStrategy strategy) {
+        var result = new ArrayList<T>(to - from);
+        Class<?> last = null;
+        Mapping mapper = null;
+        for (var i = from; i < to; i++) {
+            var item = source[i];
+            if (isNull(item)) {
+                result.add(handleNullSource(null, cls));
+            } else {
+                if (item.getClass() != last) {
+                    last = item.getClass();
+                    mapper = resolveMapper(last, cls, convert, strategy, DEFAULT);
+                }
+                result.add((T) invoke(mapper, item, convert ? CodeFactory.create(cls) : null, cls));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Mapping precompile(Class<?> source, Class<?> destination) {
+        return precompile(source, destination, false, MappingStrategy.GETTERS_SETTERS, DEFAULT);
+    }
+
+    @Override
+    public Mapping precompile(Class<?> source, Class<?> destination, MappingStrategy strategy) {
+        return precompile(source, destination, false, strategy, DEFAULT);
+    }
+
+    @Override
+    public Mapping precompile(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key) {
+        return resolveMapper(source, destination, convert, strategy, key);
+    }
+
+    @Override
+    public synchronized void recordWarmup(Path file) {
+        var previous = recorder;
+        recorder = null;
+        if (nonNull(previous)) {
+            previous.close();
+        }
+        if (nonNull(file)) {
+            recorder = new MapperWarmup(file);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Integer> warmup(Path file) {
+        var entries = MapperWarmup.read(file);
+        return Async.<Integer>start().collect(() -> (int) entries.stream().filter(this::precompile).count());
+    }
+
+    @Override
+    public CompletableFuture<Integer> warmup(Path file, String flow) {
+        var futures = MapperWarmup.read(file).stream()
+                .map(entry -> Async.<Integer>start(flow).collect(() -> precompile(entry) ? 1 : 0))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+    protected boolean precompile(MapperWarmup.Entry entry) {
+        try {
+            precompile(entry.source(), entry.destination(), entry.convert(), entry.strategy(), entry.key());
+            return true;
+        } catch (Exception e) {
+            log.info("Unable to precompile mapping ({}->{})!", entry.source().getCanonicalName(), entry.destination().getCanonicalName());
+            return false;
+        }
+    }
+
+    protected Object invoke(Mapping mapper, Object source, Object destination, Class<?> cls) {
+        if (graphs.get() > 0) {
+            var current = graph.get();
+            if (nonNull(current) && mapper instanceof MapperExecutor executor) {
+                return invokeGraph(current, executor, source, destination, cls);
+            }
+        }
+        return measure(mapper, source, destination, cls);
+    }
+
+    protected Object invokeGraph(MappingGraph current, MapperExecutor executor, Object source, Object destination, Class<?> cls) {
+        var type = executor.getDestination();
+        var existing = current.get(source, type);
+        if (nonNull(existing)) {
+            return existing;
+        }
+        var target = nonNull(destination) ? destination : CodeFactory.create(type);
+        if (isNull(target)) {
+            return measure(executor, source, null, cls);
+        }
+        current.put(source, type, target);
+        var result = measure(executor, source, target, cls);
+        if (result != target) {
+            current.put(source, type, result);
+        }
+        return result;
+    }
+
+    protected Object measure(Mapping mapper, Object source, Object destination, Class<?> cls) {
+        var stats = statistics;
+        if (isNull(stats)) {
+            return mapper.map(source, destination);
+        }
+        var start = System.nanoTime();
+        try {
+            return mapper.map(source, destination);
+        } finally {
+            stats.invocation(source.getClass(), cls, System.nanoTime() - start);
+        }
+    }
+
+    protected Mapping resolveMapper(Class<?> source, Class<?> cls, boolean convert, MappingStrategy strategy, Object key) {
+        var mapper = getMapper(source, cls, key);
+        if (isNull(mapper)) {
+            mapper = buildMapperClass(source, cls, convert, true, strategy, key);
+        }
+        return mapper;
     }
 
     protected <T> T handleNullSource(T destination, Class<T> cls) {
@@ -222,14 +640,9 @@ public class DefaultMapperExecutor implements MapperFactory {
     }
 
     @Override
-    public synchronized <K> void registerMapper(Mapping<?, ?> mapping, K key) {
-        var name = calcMapperName(mapping.getSource(), mapping.getDestination());
-        var existing = mappers.get(name);
-        if (isNull(existing)) {
-            existing = new ConcurrentHashMap<>();
-        }
-        existing.put(key, mapping);
-        mappers.put(name, existing);
+    public <K> void registerMapper(Mapping<?, ?> mapping, K key) {
+        getMappers(mapping.getSource(), mapping.getDestination()).put(key, mapping);
+        invalidate(mapping.getSource(), mapping.getDestination(), key);
     }
 
     @Override
@@ -239,6 +652,26 @@ public class DefaultMapperExecutor implements MapperFactory {
 
     @Override
     public <S, D, K> List<Mapping<S, D>> findMappings(Class<S> source, Class<D> destination, K key) {
+        var registration = getRegistration(source, destination);
+        var cached = registration.resolved.get(key);
+        if (nonNull(cached)) {
+            return cached;
+        }
+
+        var stamp = modifications.get();
+        var result = resolveMappings(source, destination, key);
+        if (!registration.tracked) {
+            registration.tracked = true;
+            resolved.put(registration, Boolean.TRUE);
+        }
+        registration.resolved.put(key, result);
+        if (stamp != modifications.get()) {
+            registration.resolved.remove(key);
+        }
+        return result;
+    }
+
+    protected <S, D, K> List<Mapping<S, D>> resolveMappings(Class<S> source, Class<D> destination, K key) {
         var result = new LinkedHashMap();
         findMappings(result, source, destination, key);
         if (result.isEmpty()) {
@@ -254,22 +687,133 @@ public class DefaultMapperExecutor implements MapperFactory {
     @SuppressWarnings("unchecked")
     @Override
     public <S, D> Mapping<S, D> clearMapping(Class<S> source, Class<D> destination) {
-        var map = mappers.remove(calcMapperName(source, destination));
-        if (nonNull(map)) {
-            return map.get(DEFAULT);
+        var registration = mappers.get(source, destination);
+        Mapping result = null;
+        if (nonNull(registration)) {
+            result = registration.mappings.remove(DEFAULT);
+            registration.mappings.clear();
+            registration.built.clear();
         }
-        return null;
+        invalidate(source, destination, null);
+        return result;
     }
 
     @Override
     public void clearAllMappings() {
-        mappers.clear();
+        mappers = createRegistry();
+        var limits = cache;
+        if (nonNull(limits)) {
+            limits.clear();
+        }
+        modifications.incrementAndGet();
+        resolved = createResolved();
+        built = createResolved();
+    }
+
+    @Override
+    public void setCodeGeneration(boolean enabled) {
+        codeGeneration = enabled;
+    }
+
+    @Override
+    public boolean isCodeGeneration() {
+        return codeGeneration;
+    }
+
+    @Override
+    public long getModifications() {
+        return modifications.get();
+    }
+
+    @Override
+    public void setMonitoring(boolean enabled) {
+        if (enabled) {
+            if (isNull(statistics)) {
+                statistics = new MapperStatistics();
+            }
+        } else {
+            statistics = null;
+        }
+    }
+
+    @Override
+    public boolean isMonitoring() {
+        return nonNull(statistics);
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (nonNull(statistics)) {
+            statistics = new MapperStatistics();
+        }
+    }
+
+    @Override
+    public List<MappingStatistics> getStatistics() {
+        var stats = statistics;
+        return nonNull(stats) ? stats.all() : List.of();
+    }
+
+    @Override
+    public MappingStatistics getStatistics(Class<?> source, Class<?> destination) {
+        var stats = statistics;
+        return nonNull(stats) ? stats.find(source, destination) : null;
+    }
+
+    @Override
+    public void setCacheLimits(int maximumSize, Duration maximumIdle) {
+        var previous = cache;
+        var next = maximumSize > 0 || nonNull(maximumIdle) ? new MapperCache(maximumSize, maximumIdle) : null;
+        cache = next;
+        if (nonNull(previous) && nonNull(next)) {
+            next.migrate(previous, this::evict);
+        } else if (nonNull(next)) {
+            next.track(builtEntries(), this::evict);
+        }
+    }
+
+    protected List<MapperCache.Entry> builtEntries() {
+        List<Registration> registrations;
+        var current = built;
+        synchronized (current) {
+            registrations = new ArrayList<>(current.keySet());
+        }
+        var result = new ArrayList<MapperCache.Entry>();
+        for (var registration : registrations) {
+            for (var entry : registration.mappings.entrySet()) {
+                if (entry.getValue() instanceof MapperExecutor<?> executor && registration.built.contains(executor)) {
+                    result.add(new MapperCache.Entry(registration.source, registration.destination, entry.getKey(), executor));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return cache;
+    }
+
+    @Override
+    public void cleanUpCache() {
+        var limits = cache;
+        if (nonNull(limits)) {
+            limits.cleanUp(this::evict);
+        }
+    }
+
+    @Override
+    public List<String> explain(Class<?> source, Class<?> destination) {
+        var mapper = resolveMapper(source, destination, false, MappingStrategy.GETTERS_SETTERS, DEFAULT);
+        if (mapper instanceof MapperExecutor executor) {
+            return executor.explain();
+        }
+        return List.of(source.getCanonicalName() + "->" + destination.getCanonicalName() + ": " + mapper.getClass().getSimpleName());
     }
 
     @SuppressWarnings("unchecked")
     protected void findMappings(Map<Class, Mapping> map, Class source, Class destination, Object key) {
-        var m = mappers.get(calcMapperName(source, destination));
-        var mapping = nonNull(m) ? m.get(key) : null;
+        var mapping = lookup(source, destination, key);
         if (nonNull(mapping)) {
             map.putIfAbsent(source, mapping);
         } else {
@@ -286,8 +830,7 @@ public class DefaultMapperExecutor implements MapperFactory {
 
     @SuppressWarnings("unchecked")
     protected <S> void findReverseMappings(Map<Class<S>, Mapping<S, ?>> map, Class<S> source, Class<?> destination, Object key) {
-        var m = mappers.get(calcMapperName(source, destination));
-        var mapping = nonNull(m) ? m.get(key) : null;
+        var mapping = lookup(source, destination, key);
         if (nonNull(mapping)) {
             map.putIfAbsent(source, mapping);
         } else {
@@ -304,8 +847,7 @@ public class DefaultMapperExecutor implements MapperFactory {
 
     @SuppressWarnings("unchecked")
     protected <S> void findJoinMappings(Map<Class, Mapping> map, Class<S> source, Class<?> destination, Object key) {
-        var m = mappers.get(calcMapperName(source, destination));
-        var mapping = nonNull(m) ? m.get(key) : null;
+        var mapping = lookup(source, destination, key);
         if (nonNull(mapping)) {
             map.putIfAbsent(source, mapping);
         } else {
@@ -347,21 +889,121 @@ public class DefaultMapperExecutor implements MapperFactory {
 
     @SuppressWarnings("unchecked")
     protected <T> MapperExecutor buildMapperClass(Class source, Class destination, boolean convert, boolean register, MappingStrategy strategy, Object key) {
-        var result = new MapperExecutor(source, destination, convert, false, strategy, key);
-        if (register) {
-            var name = calcMapperName(source, destination);
-            var existing = mappers.get(name);
+        if (!register) {
+            return construct(source, destination, convert, strategy, key);
+        }
+        var buildKey = new BuildKey(source, destination, convert, strategy, key);
+        var flight = new CompletableFuture<MapperExecutor>();
+        var current = inFlight.putIfAbsent(buildKey, flight);
+        if (nonNull(current)) {
+            if (nonNull(building.get())) {
+                return construct(source, destination, convert, strategy, key);
+            }
+            try {
+                return current.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof MapperException ex) {
+                    throw ex;
+                }
+                throw new MapperException(e);
+            }
+        }
+        var previous = building.get();
+        building.set(buildKey);
+        try {
+            var existing = lookup(source, destination, key);
+            if (existing instanceof MapperExecutor executor) {
+                flight.complete(executor);
+                return executor;
+            }
+            var result = construct(source, destination, convert, strategy, key);
             if (isNull(existing)) {
-                existing = new ConcurrentHashMap<>();
+                var registration = getRegistration(source, destination);
+                registration.mappings.put(key, result);
+                registration.built.add(result);
+                built.put(registration, Boolean.TRUE);
+                var limits = cache;
+                if (nonNull(limits)) {
+                    limits.add(new MapperCache.Entry(source, destination, key, result), this::evict);
+                }
+                var rec = recorder;
+                if (nonNull(rec)) {
+                    rec.record(source, destination, convert, strategy, key);
+                }
             }
-            existing.put(key, result);
-            mappers.put(name, existing);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.set(previous);
+            inFlight.remove(buildKey, flight);
+        }
+    }
+
+    protected MapperExecutor construct(Class source, Class destination, boolean convert, MappingStrategy strategy, Object key) {
+        var stats = statistics;
+        var start = System.nanoTime();
+        var result = createExecutor(source, destination, convert, strategy, key);
+        if (nonNull(stats)) {
+            stats.build(source, destination, System.nanoTime() - start);
         }
         return result;
     }
 
-    protected String calcMapperName(Class source, Class destination) {
-        return source.getCanonicalName() + "->" + destination.getCanonicalName();
+    protected MapperExecutor createExecutor(Class source, Class destination, boolean convert, MappingStrategy strategy, Object key) {
+        if (ConstructorMapperExecutor.isSupported(source, destination, strategy) && findMappings(source, destination, key).isEmpty()) {
+            return new ConstructorMapperExecutor(this, source, destination, convert, false, strategy, key);
+        }
+        if (MapObjectExecutor.isSupported(source, destination) && findMappings(source, destination, key).isEmpty()) {
+            return new MapObjectExecutor(this, source, destination, convert, false, strategy, key);
+        }
+        if (codeGeneration) {
+            return new GeneratedMapperExecutor(this, source, destination, convert, false, strategy, key);
+        }
+        return new MapperExecutor(this, source, destination, convert, false, strategy, key);
+    }
+
+    protected Map<Object, Mapping> getMappers(Class<?> source, Class<?> destination) {
+        return getRegistration(source, destination).mappings;
+    }
+
+    protected Registration getRegistration(Class<?> source, Class<?> destination) {
+        return mappers.computeIfAbsent(source, destination, Registration::new);
+    }
+
+    protected Mapping lookup(Class<?> source, Class<?> destination, Object key) {
+        var registration = mappers.get(source, destination);
+        return nonNull(registration) ? registration.mappings.get(key) : null;
+    }
+
+    protected void invalidate(Class<?> source, Class<?> destination, Object key) {
+        modifications.incrementAndGet();
+        forget(source, destination, key);
+    }
+
+    protected void forget(Class<?> source, Class<?> destination, Object key) {
+        var current = resolved;
+        synchronized (current) {
+            for (var registration : current.keySet()) {
+                if (source.isAssignableFrom(registration.source) && destination.isAssignableFrom(registration.destination)) {
+                    if (isNull(key)) {
+                        registration.resolved.clear();
+                    } else {
+                        registration.resolved.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    protected ClassPairRegistry<Registration> createRegistry() {
+        return new ClassPairRegistry<>();
+    }
+
+    protected Map<Registration, Boolean> createResolved() {
+        return Collections.synchronizedMap(new WeakHashMap<>());
     }
 
     @SuppressWarnings("unchecked")
@@ -379,11 +1021,49 @@ public class DefaultMapperExecutor implements MapperFactory {
 
     @SuppressWarnings("unchecked")
     protected <K> Mapping<Object, Object> getMapper(Class<?> source, Class<?> destination, K key) {
-        var map = mappers.get(calcMapperName(source, destination));
-        if (nonNull(map)) {
-            return map.get(key);
+        var result = lookup(source, destination, key);
+        var limits = cache;
+        if (nonNull(limits)) {
+            if (result instanceof MapperExecutor executor) {
+                executor.referenced = true;
+                limits.hit();
+            } else if (isNull(result)) {
+                limits.miss();
+            } else {
+                limits.hit();
+            }
+            if (limits.isCleanUpDue()) {
+                limits.expire(this::evict);
+            }
         }
-        return null;
+        return result;
+    }
+
+    protected boolean evict(MapperCache.Entry entry) {
+        var registration = mappers.get(entry.source, entry.destination);
+        if (nonNull(registration) && registration.mappings.remove(entry.key, entry.executor)) {
+            registration.built.remove(entry.executor);
+            forget(entry.source, entry.destination, entry.key);
+            return true;
+        }
+        return false;
+    }
+
+    protected static class Registration {
+        protected final Class<?> source;
+        protected final Class<?> destination;
+        protected final Map<Object, Mapping> mappings = new ConcurrentHashMap<>();
+        protected final Map<Object, List> resolved = new ConcurrentHashMap<>();
+        protected final Set<Mapping> built = ConcurrentHashMap.newKeySet();
+        protected volatile boolean tracked;
+
+        protected Registration(Class<?> source, Class<?> destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+    }
+
+    protected record BuildKey(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key) {
     }
 
 }
@@ -0,0 +1,33 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+public abstract class GeneratedMapper {
+
+    protected final MapperExecutor.TriFunction[] fallbacks;
+
+    protected GeneratedMapper(MapperExecutor.TriFunction[] fallbacks) {
+        this.fallbacks = fallbacks;
+    }
+
+    public abstract Object map(Object source, Object destination);
+
+}
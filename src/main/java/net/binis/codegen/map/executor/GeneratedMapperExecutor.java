@@ -0,0 +1,305 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.generator.ClassFileWriter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static net.binis.codegen.map.generator.ClassFileWriter.*;
+
+@Slf4j
+@SuppressWarnings("unchecked")
+public class GeneratedMapperExecutor<T> extends MapperExecutor<T> {
+
+    protected static final int SOURCE = 1;
+    protected static final int DESTINATION = 2;
+    protected static final int WITHER_VALUE = 3;
+    protected static final int VALUE = 4;
+
+    //Assigned during build() which runs inside the super constructor, so no initializer here.
+    protected GeneratedMapper generated;
+    protected Class<?> host;
+
+    public GeneratedMapperExecutor(Object source, T destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        super(source, destination, convert, producer, strategy, key);
+    }
+
+    public GeneratedMapperExecutor(Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        super(source, destination, convert, producer, strategy, key);
+    }
+
+    public GeneratedMapperExecutor(MapperFactory factory, Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        super(factory, source, destination, convert, producer, strategy, key);
+    }
+
+    public boolean isGenerated() {
+        return nonNull(generated);
+    }
+
+    @Override
+    protected void buildMapper(Map<String, TriFunction> accessors) {
+        if (!accessors.isEmpty()) {
+            try {
+                generated = generate(accessors);
+            } catch (Throwable e) {
+                log.warn("Unable to generate mapper ({}->{})!", source.getCanonicalName(), destination.getCanonicalName(), e);
+            }
+        }
+
+        if (isNull(generated)) {
+            super.buildMapper(accessors);
+        } else {
+            var gen = generated;
+            mapper = (s, d) -> {
+                try {
+                    return (T) gen.map(s, nonNull(d) ? d : CodeFactory.create(destination));
+                } catch (MapperException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new MapperException("Unable to map value for mapping (" + s.getClass().getCanonicalName() + "->" + destination.getCanonicalName() + ")!", e);
+                }
+            };
+        }
+    }
+
+    @Override
+    protected String explain(PropertyMapping property) {
+        if (nonNull(generated) && canInline(host, property)) {
+            if (PropertyKind.WITHER.equals(property.getKind())) {
+                return "wither: WITHER " + property.getGetter().getName() + " [GENERATED]";
+            }
+            return property.getName() + ": " + property.getKind() + " " + property.getGetter().getName() + " -> " + property.getSetter().getName() + " [GENERATED]";
+        }
+        return super.explain(property);
+    }
+
+    protected GeneratedMapper generate(Map<String, TriFunction> accessors) throws Throwable {
+        Class<?> host = null;
+        MethodHandles.Lookup lookup = null;
+        var best = 0;
+        for (var candidate : new LinkedHashSet<>(List.of(destination, source))) {
+            var l = hostLookup(candidate);
+            if (nonNull(l)) {
+                var count = (int) accessors.values().stream().filter(a -> canInline(candidate, a)).count();
+                if (count > best) {
+                    best = count;
+                    host = candidate;
+                    lookup = l;
+                }
+            }
+        }
+
+        if (isNull(host)) {
+            return null;
+        }
+
+        for (var accessor : accessors.values()) {
+            if (accessor instanceof PropertyMapping p && PropertyKind.WITHER.equals(p.getKind()) && !canInline(host, p)) {
+                return null;
+            }
+        }
+
+        var fallbacks = new ArrayList<TriFunction>();
+        var writer = new ClassFileWriter(ACC_PUBLIC | ACC_FINAL, internalName(host) + "$$Mapper", internalName(GeneratedMapper.class));
+        var ctorDescriptor = methodDescriptor(void.class, TriFunction[].class);
+        writer.declareMethod(ACC_PUBLIC, "<init>", ctorDescriptor)
+                .load(Object.class, 0)
+                .load(Object.class, 1)
+                .invoke(INVOKESPECIAL, internalName(GeneratedMapper.class), "<init>", ctorDescriptor, false)
+                .op(RETURN);
+
+        var code = writer.declareMethod(ACC_PUBLIC, "map", methodDescriptor(Object.class, Object.class, Object.class))
+                .op(ACONST_NULL)
+                .store(Object.class, WITHER_VALUE);
+
+        for (var accessor : accessors.values()) {
+            if (canInline(host, accessor)) {
+                var property = (PropertyMapping) accessor;
+                switch (property.getKind()) {
+                    case WITHER -> {
+                        code.load(Object.class, DESTINATION);
+                        read(code, property.getGetter());
+                        code.store(Object.class, WITHER_VALUE);
+                    }
+                    case PLAIN -> {
+                        code.load(Object.class, property.isWither() ? WITHER_VALUE : DESTINATION)
+                                .type(CHECKCAST, internalName(property.getSetter().getDeclaringClass()))
+                                .load(Object.class, SOURCE);
+                        read(code, property.getGetter());
+                        if (property.getSourceType().isPrimitive() && !property.getDestinationType().isPrimitive()) {
+                            code.invoke(INVOKESTATIC, internalName(property.getDestinationType()), "valueOf", methodDescriptor(property.getDestinationType(), property.getSourceType()), false);
+                        }
+                        write(code, property.getSetter());
+                    }
+                    case NULL_PROTECTED -> {
+                        var skip = code.label();
+                        code.load(Object.class, SOURCE);
+                        read(code, property.getGetter());
+                        code.store(Object.class, VALUE)
+                                .load(Object.class, VALUE)
+                                .jump(IFNULL, skip)
+                                .load(Object.class, property.isWither() ? WITHER_VALUE : DESTINATION)
+                                .type(CHECKCAST, internalName(property.getSetter().getDeclaringClass()))
+                                .load(Object.class, VALUE)
+                                .invoke(INVOKEVIRTUAL, internalName(property.getSourceType()), property.getDestinationType().getName() + "Value", methodDescriptor(property.getDestinationType()), false);
+                        write(code, property.getSetter());
+                        code.bind(skip);
+                    }
+                    default -> throw new MapperException("Unexpected inline property (" + property.getName() + ")!");
+                }
+            } else {
+                code.load(Object.class, 0)
+                        .field(GETFIELD, internalName(GeneratedMapper.class), "fallbacks", descriptor(TriFunction[].class))
+                        .iconst(fallbacks.size())
+                        .op(AALOAD)
+                        .load(Object.class, SOURCE)
+                        .load(Object.class, DESTINATION)
+                        .load(Object.class, WITHER_VALUE)
+                        .invoke(INVOKEINTERFACE, internalName(TriFunction.class), "apply", methodDescriptor(Object.class, Object.class, Object.class, Object.class), true)
+                        .store(Object.class, DESTINATION);
+                fallbacks.add(unwrap(accessor));
+            }
+        }
+        code.load(Object.class, DESTINATION).ret(Object.class);
+
+        this.host = host;
+        var hidden = lookup.defineHiddenClass(writer.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        var constructor = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, TriFunction[].class));
+        return (GeneratedMapper) constructor.invoke(fallbacks.toArray(TriFunction[]::new));
+    }
+
+    protected void read(ClassFileWriter.Code code, Member member) {
+        code.type(CHECKCAST, internalName(member.getDeclaringClass()));
+        if (member instanceof Method method) {
+            code.invoke(method);
+        } else {
+            var field = (Field) member;
+            code.field(GETFIELD, internalName(field.getDeclaringClass()), field.getName(), descriptor(field.getType()));
+        }
+    }
+
+    protected void write(ClassFileWriter.Code code, Member member) {
+        if (member instanceof Method method) {
+            code.invoke(method).pop(method.getReturnType());
+        } else {
+            var field = (Field) member;
+            code.field(PUTFIELD, internalName(field.getDeclaringClass()), field.getName(), descriptor(field.getType()));
+        }
+    }
+
+    protected MethodHandles.Lookup hostLookup(Class<?> cls) {
+        try {
+            if (cls.isPrimitive() || cls.isArray() || cls.isHidden() || !isVisible(cls, GeneratedMapper.class) || !isVisible(cls, TriFunction.class)) {
+                return null;
+            }
+            var lookup = MethodHandles.privateLookupIn(cls, MethodHandles.lookup());
+            return lookup.hasFullPrivilegeAccess() ? lookup : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    protected boolean canInline(Class<?> host, TriFunction accessor) {
+        if (accessor instanceof PropertyMapping property) {
+            return switch (property.getKind()) {
+                case WITHER -> canRead(host, property.getGetter()) && !property.getDestinationType().isPrimitive();
+                case PLAIN -> canRead(host, property.getGetter()) && canWrite(host, property.getSetter()) && (property.getSourceType().equals(property.getDestinationType())
+                        || (!property.getSourceType().isPrimitive() && !property.getDestinationType().isPrimitive() && property.getDestinationType().isAssignableFrom(property.getSourceType()))
+                        || (property.getSourceType().isPrimitive() && wrapper(property.getSourceType()).equals(property.getDestinationType())));
+                case NULL_PROTECTED -> canRead(host, property.getGetter()) && canWrite(host, property.getSetter())
+                        && property.getDestinationType().isPrimitive() && wrapper(property.getDestinationType()).equals(property.getSourceType());
+                default -> false;
+            };
+        }
+        return false;
+    }
+
+    protected boolean canRead(Class<?> host, Member member) {
+        if (member instanceof Method method) {
+            return method.getParameterCount() == 0 && !void.class.equals(method.getReturnType()) && isAccessible(host, method, method.getReturnType());
+        }
+        return member instanceof Field field && isAccessible(host, field, field.getType());
+    }
+
+    protected boolean canWrite(Class<?> host, Member member) {
+        if (member instanceof Method method) {
+            return method.getParameterCount() == 1 && isAccessible(host, method, method.getReturnType()) && isVisible(host, method.getParameterTypes()[0]);
+        }
+        return member instanceof Field field && !Modifier.isFinal(field.getModifiers()) && isAccessible(host, field, field.getType());
+    }
+
+    protected boolean isAccessible(Class<?> host, Member member, Class<?> type) {
+        var owner = member.getDeclaringClass();
+        var modifiers = member.getModifiers();
+        if (Modifier.isStatic(modifiers) || !isVisible(host, owner) || !isVisible(host, type)) {
+            return false;
+        }
+        if (!Modifier.isPublic(owner.getModifiers()) && !isSamePackage(host, owner)) {
+            return false;
+        }
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        } else if (Modifier.isPrivate(modifiers)) {
+            return host.getNestHost().equals(owner.getNestHost());
+        }
+        return isSamePackage(host, owner);
+    }
+
+    protected boolean isSamePackage(Class<?> host, Class<?> cls) {
+        return host.getClassLoader() == cls.getClassLoader() && host.getPackageName().equals(cls.getPackageName());
+    }
+
+    protected boolean isVisible(Class<?> host, Class<?> cls) {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(cls.getName(), false, host.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    protected Class<?> wrapper(Class<?> cls) {
+        return MethodType.methodType(cls).wrap().returnType();
+    }
+
+}
@@ -0,0 +1,287 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingChanges;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.accessor.Accessors;
+import net.binis.codegen.tools.TypeUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@SuppressWarnings("unchecked")
+public class MapObjectExecutor<T> extends MapperExecutor<T> {
+
+    protected static final int MAX_ROWS = 4;
+
+    protected MapEntryProperty[] entries;
+    protected Map<Object, Integer> index;
+    protected volatile Row[] rows;
+
+    public MapObjectExecutor(MapperFactory factory, Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        super(factory, source, destination, convert, producer, strategy, key);
+    }
+
+    public static boolean isSupported(Class<?> source, Class<?> destination) {
+        return Map.class.isAssignableFrom(source) && !destination.isPrimitive() && !destination.isArray() && !destination.isEnum()
+                && !destination.getName().startsWith("java.");
+    }
+
+    @Override
+    public T map(Object source, T destination) {
+        var result = nonNull(destination) ? destination : CodeFactory.create(this.destination);
+        var map = (Map<?, ?>) source;
+        var shapes = rows;
+        var current = shape(shapes, map.size(), null, 0, null);
+        var iterator = map.entrySet().iterator();
+        if (isNull(current)) {
+            return ingest(map, null, 0, iterator.hasNext() ? iterator.next() : null, iterator, result);
+        }
+        var i = 0;
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (!Objects.equals(current.keys[i], entry.getKey())) {
+                var next = shape(shapes, current.keys.length, current, i, entry.getKey());
+                if (isNull(next)) {
+                    return ingest(map, current, i, entry, iterator, result);
+                }
+                current = next;
+            }
+            var slot = current.slots[i++];
+            if (slot >= 0) {
+                entries[slot].assign(source, result, entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MappingChanges<T> mapChanges(Object source, T destination) {
+        var changes = new ArrayList<MappingChanges.Change>();
+        for (var entry : ((Map<?, ?>) source).entrySet()) {
+            var slot = index.get(entry.getKey());
+            if (nonNull(slot)) {
+                entries[slot].change(source, destination, entry.getValue(), changes);
+            }
+        }
+        return new MappingChanges<>(destination, changes);
+    }
+
+    @Override
+    public List<String> fieldNames() {
+        return Arrays.stream(entries).map(entry -> entry.name).toList();
+    }
+
+    @Override
+    protected BiFunction<Object, T, T> buildPartial(BitSet mask) {
+        return (s, d) -> {
+            var result = nonNull(d) ? d : CodeFactory.create(this.destination);
+            for (var entry : ((Map<?, ?>) s).entrySet()) {
+                var slot = index.get(entry.getKey());
+                if (nonNull(slot) && mask.get(slot)) {
+                    entries[slot].assign(s, result, entry.getValue());
+                }
+            }
+            return result;
+        };
+    }
+
+    @Override
+    public List<String> explain() {
+        var result = new ArrayList<String>();
+        for (var entry : entries) {
+            result.add(entry.name + ": MAP_ENTRY -> " + entry.setter.getName() + " [" + Accessors.typeOf(entry.set) + "]");
+        }
+        return result;
+    }
+
+    protected Row shape(Row[] shapes, int size, Row prefix, int position, Object key) {
+        for (var shape : shapes) {
+            if (shape.keys.length == size && (isNull(prefix) || shape != prefix && Objects.equals(shape.keys[position], key)
+                    && Arrays.equals(shape.keys, 0, position, prefix.keys, 0, position))) {
+                return shape;
+            }
+        }
+        return null;
+    }
+
+    protected T ingest(Map<?, ?> map, Row prefix, int start, Map.Entry<?, ?> first, Iterator<? extends Map.Entry<?, ?>> rest, T destination) {
+        var keys = new Object[map.size()];
+        var slots = new int[keys.length];
+        if (start > 0) {
+            System.arraycopy(prefix.keys, 0, keys, 0, start);
+            System.arraycopy(prefix.slots, 0, slots, 0, start);
+        }
+        var i = start;
+        for (var entry = first; nonNull(entry); entry = rest.hasNext() ? rest.next() : null) {
+            if (i == keys.length) {
+                return destination;
+            }
+            var slot = index.get(entry.getKey());
+            keys[i] = entry.getKey();
+            slots[i++] = isNull(slot) ? -1 : slot;
+            if (nonNull(slot)) {
+                entries[slot].assign(map, destination, entry.getValue());
+            }
+        }
+        if (i == keys.length) {
+            var shapes = rows;
+            var next = Arrays.copyOfRange(shapes, shapes.length < MAX_ROWS ? 0 : 1, shapes.length + 1);
+            next[next.length - 1] = new Row(keys, slots);
+            rows = next;
+        }
+        return destination;
+    }
+
+    @Override
+    protected void build() {
+        var found = new LinkedHashMap<String, MapEntryProperty>();
+        if (!MappingStrategy.FIELDS.equals(strategy)) {
+            for (var method : destination.getMethods()) {
+                if (method.getParameterCount() == 1 && method.getName().length() > 3 && method.getName().startsWith("set")
+                        && !Modifier.isStatic(method.getModifiers()) && shouldNotSkip(method)) {
+                    addEntry(found, getFieldName(method.getName()), method, method.getParameterTypes()[0]);
+                }
+            }
+        }
+        if (!MappingStrategy.GETTERS_SETTERS.equals(strategy)) {
+            for (var cls = (Class<?>) destination; nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+                for (var field : cls.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers()) && shouldNotSkip(field)) {
+                        addEntry(found, field.getName(), field, field.getType());
+                    }
+                }
+            }
+        }
+        entries = found.values().toArray(MapObjectExecutor.MapEntryProperty[]::new);
+        index = new HashMap<>();
+        for (var i = 0; i < entries.length; i++) {
+            index.put(entries[i].name, i);
+        }
+        rows = new Row[0];
+        properties = new LinkedHashMap<>();
+        mapper = this::map;
+    }
+
+    protected void addEntry(Map<String, MapEntryProperty> found, String name, Member setter, Class<?> type) {
+        if (!found.containsKey(name)) {
+            try {
+                found.put(name, new MapEntryProperty(name, setter, type));
+            } catch (Exception e) {
+                log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
+            }
+        }
+    }
+
+    protected class MapEntryProperty {
+        protected final String name;
+        protected final Member setter;
+        protected final BiConsumer<Object, Object> set;
+        protected final Function<Object, Object> get;
+        protected final Class<?> type;
+        protected final Class<?> wrapper;
+        protected final ConverterCache cache;
+
+        public MapEntryProperty(String name, Member setter, Class<?> type) {
+            this.name = name;
+            this.setter = setter;
+            this.set = Accessors.setter(setter);
+            this.get = reader(setter);
+            this.type = type;
+            this.wrapper = TypeUtils.getWrapperType(type);
+            this.cache = new ConverterCache(factory, source, destination, type, false);
+        }
+
+        public void assign(Object source, Object destination, Object value) {
+            try {
+                if (isNull(value)) {
+                    if (!type.isPrimitive()) {
+                        set.accept(destination, null);
+                    }
+                } else if (wrapper.isInstance(value)) {
+                    set.accept(destination, value);
+                } else {
+                    set.accept(destination, cache.map(value));
+                }
+            } catch (Exception e) {
+                throw mappingException(name, source, destination, e);
+            }
+        }
+
+        public void change(Object source, Object destination, Object value, List<MappingChanges.Change> changes) {
+            try {
+                if (isNull(value) && type.isPrimitive()) {
+                    return;
+                }
+                var converted = isNull(value) || wrapper.isInstance(value) ? value : cache.map(value);
+                var old = nonNull(get) ? get.apply(destination) : null;
+                if (isNull(get) || !Objects.deepEquals(old, converted)) {
+                    set.accept(destination, converted);
+                    changes.add(new MappingChanges.Change(name, old, converted));
+                }
+            } catch (Exception e) {
+                throw mappingException(name, source, destination, e);
+            }
+        }
+
+        protected Function<Object, Object> reader(Member setter) {
+            if (setter instanceof Field) {
+                return Accessors.getter(setter);
+            }
+            var suffix = setter.getName().substring(3);
+            for (var prefix : new String[]{"get", "is"}) {
+                try {
+                    var method = destination.getMethod(prefix + suffix);
+                    if (!Modifier.isStatic(method.getModifiers())) {
+                        return Accessors.getter(method);
+                    }
+                } catch (NoSuchMethodException e) {
+                    //Try next prefix
+                }
+            }
+            return null;
+        }
+    }
+
+    protected static final class Row {
+        protected final Object[] keys;
+        protected final int[] slots;
+
+        protected Row(Object[] keys, int[] slots) {
+            this.keys = keys;
+            this.slots = slots;
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.map.monitoring.CacheStatistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.util.Objects.nonNull;
+
+public class MapperCache implements CacheStatistics {
+
+    protected final int maximumSize;
+    protected final long maximumIdle;
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+    protected final List<Entry> ring = new ArrayList<>();
+    protected int hand;
+    protected volatile long lastCleanUp = System.nanoTime();
+
+    public MapperCache(int maximumSize, Duration maximumIdle) {
+        this.maximumSize = maximumSize > 0 ? maximumSize : Integer.MAX_VALUE;
+        this.maximumIdle = nonNull(maximumIdle) ? maximumIdle.toNanos() : Long.MAX_VALUE;
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public boolean isCleanUpDue() {
+        return maximumIdle != Long.MAX_VALUE && System.nanoTime() - lastCleanUp > maximumIdle / 2;
+    }
+
+    public synchronized void add(Entry entry, Predicate<Entry> evictor) {
+        entry.seen = System.nanoTime();
+        entry.executor.referenced = true;
+        ring.add(entry);
+        trim(entry.seen, evictor);
+        if (isCleanUpDue()) {
+            cleanUp(evictor);
+        }
+    }
+
+    public synchronized void migrate(MapperCache previous, Predicate<Entry> evictor) {
+        ring.addAll(previous.drain());
+        trim(System.nanoTime(), evictor);
+    }
+
+    public synchronized void track(List<Entry> entries, Predicate<Entry> evictor) {
+        var known = Collections.newSetFromMap(new IdentityHashMap<MapperExecutor<?>, Boolean>());
+        for (var entry : ring) {
+            known.add(entry.executor);
+        }
+        var now = System.nanoTime();
+        for (var entry : entries) {
+            if (known.add(entry.executor)) {
+                entry.seen = now;
+                ring.add(entry);
+            }
+        }
+        trim(now, evictor);
+    }
+
+    protected synchronized List<Entry> drain() {
+        var result = new ArrayList<>(ring);
+        clear();
+        return result;
+    }
+
+    protected void trim(long now, Predicate<Entry> evictor) {
+        while (ring.size() > maximumSize) {
+            if (hand >= ring.size()) {
+                hand = 0;
+            }
+            var current = ring.get(hand);
+            if (current.executor.referenced) {
+                current.executor.referenced = false;
+                current.seen = now;
+                hand++;
+            } else {
+                remove(hand, evictor);
+            }
+        }
+    }
+
+    public synchronized void expire(Predicate<Entry> evictor) {
+        if (isCleanUpDue()) {
+            cleanUp(evictor);
+        }
+    }
+
+    public synchronized void cleanUp(Predicate<Entry> evictor) {
+        var now = System.nanoTime();
+        lastCleanUp = now;
+        for (var i = ring.size() - 1; i >= 0; i--) {
+            var current = ring.get(i);
+            if (current.executor.referenced) {
+                current.executor.referenced = false;
+                current.seen = now;
+            } else if (now - current.seen > maximumIdle) {
+                remove(i, evictor);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        ring.clear();
+        hand = 0;
+    }
+
+    protected void remove(int index, Predicate<Entry> evictor) {
+        var entry = ring.get(index);
+        var last = ring.remove(ring.size() - 1);
+        if (index < ring.size()) {
+            ring.set(index, last);
+        }
+        if (evictor.test(entry)) {
+            evictions.increment();
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return ring.size();
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public static class Entry {
+        protected final Class<?> source;
+        protected final Class<?> destination;
+        protected final Object key;
+        protected final MapperExecutor<?> executor;
+        protected long seen;
+
+        public Entry(Class<?> source, Class<?> destination, Object key, MapperExecutor<?> executor) {
+            this.source = source;
+            this.destination = destination;
+            this.key = key;
+            this.executor = executor;
+        }
+    }
+
+}
@@ -26,14 +26,24 @@ import net.binis.codegen.exception.MapperException;
 import net.binis.codegen.factory.CodeFactory;
 import net.binis.codegen.map.MapperFactory;
 import net.binis.codegen.map.Mapping;
+import net.binis.codegen.map.MappingChanges;
 import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.accessor.AccessorType;
+import net.binis.codegen.map.accessor.Accessors;
+import net.binis.codegen.map.accessor.BooleanToDoubleFunction;
+import net.binis.codegen.map.accessor.BooleanToIntFunction;
+import net.binis.codegen.map.accessor.BooleanToLongFunction;
 import net.binis.codegen.tools.Reflection;
+import net.binis.codegen.tools.TypeUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
 import java.util.*;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.*;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
@@ -43,7 +53,13 @@ import static java.util.Objects.nonNull;
 @SuppressWarnings("unchecked")
 public class MapperExecutor<T> implements Mapping<Object, T> {
 
+    protected static final String WITHER = "?!?wither?!?";
+    protected static final int MAX_PARTIALS = 256;
+
     protected BiFunction<Object, T, T> mapper;
+    protected Map<String, TriFunction> properties;
+    protected volatile List<IncrementalProperty> incremental;
+    protected boolean referenced;
     protected final Class<?> source;
     protected final Class<T> destination;
     protected final boolean convert;
@@ -51,10 +67,30 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
 
     protected final MappingStrategy strategy;
     protected final Object key;
+    protected final MapperFactory factory;
+    protected final Map<BitSet, PartialMapping> partials = new ConcurrentHashMap<>();
+    protected final List<BitSet> partialRing = new ArrayList<>();
+    protected int partialHand;
+    protected final ClassValue<BitSet> projections = new ClassValue<>() {
+        @Override
+        protected BitSet computeValue(Class<?> type) {
+            var index = fieldIndex();
+            var result = new BitSet(index.size());
+            for (var field : projectionFields(type)) {
+                var i = index.get(field);
+                if (nonNull(i)) {
+                    result.set(i);
+                }
+            }
+            return result;
+        }
+    };
+    protected volatile Map<String, Integer> fieldIndex;
 
     public MapperExecutor(Object source, T destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
         this.source = source.getClass();
         this.destination = (Class) destination.getClass();
+        this.factory = CodeFactory.create(MapperFactory.class);
         this.convert = convert;
         this.producer = producer;
         this.strategy = strategy;
@@ -63,6 +99,11 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
     }
 
     public MapperExecutor(Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        this(CodeFactory.create(MapperFactory.class), source, destination, convert, producer, strategy, key);
+    }
+
+    public MapperExecutor(MapperFactory factory, Class<?> source, Class<T> destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+        this.factory = factory;
         this.source = source;
         this.destination = destination;
         this.convert = convert;
@@ -86,11 +127,139 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
         return mapper.apply(source, destination);
     }
 
+    public MappingChanges<T> mapChanges(Object source, T destination) {
+        var plan = incremental;
+        if (isNull(plan)) {
+            plan = buildIncremental();
+            incremental = plan;
+        }
+        var changes = new ArrayList<MappingChanges.Change>();
+        Object wither = null;
+        Object result = destination;
+        for (var property : plan) {
+            var res = property.apply(source, result, wither, changes);
+            if (res instanceof WitherHolder holder) {
+                wither = holder.get();
+            } else {
+                result = res;
+            }
+        }
+        return new MappingChanges<>((T) result, changes);
+    }
+
     @Override
     public MappingStrategy getStrategy() {
         return strategy;
     }
 
+    public T mapPartial(Object source, T destination, BitSet mask) {
+        return partial(mask).map(source, destination);
+    }
+
+    public Mapping<Object, T> partial(BitSet mask) {
+        var result = partials.get(mask);
+        if (isNull(result)) {
+            return cachePartial(mask, new PartialMapping(buildPartial(mask)));
+        }
+        if (!result.referenced) {
+            result.referenced = true;
+        }
+        return result;
+    }
+
+    protected PartialMapping cachePartial(BitSet mask, PartialMapping mapping) {
+        synchronized (partialRing) {
+            var existing = partials.get(mask);
+            if (nonNull(existing)) {
+                return existing;
+            }
+            var key = (BitSet) mask.clone();
+            if (partialRing.size() < MAX_PARTIALS) {
+                partialRing.add(key);
+            } else {
+                while (true) {
+                    var current = partials.get(partialRing.get(partialHand));
+                    if (current.referenced) {
+                        current.referenced = false;
+                        partialHand = (partialHand + 1) % partialRing.size();
+                    } else {
+                        break;
+                    }
+                }
+                partials.remove(partialRing.get(partialHand));
+                partialRing.set(partialHand, key);
+                partialHand = (partialHand + 1) % partialRing.size();
+            }
+            partials.put(key, mapping);
+            return mapping;
+        }
+    }
+
+    public List<String> fieldNames() {
+        var result = new ArrayList<String>();
+        for (var entry : properties.entrySet()) {
+            if (entry.getValue() instanceof PropertyMapping && !WITHER.equals(entry.getKey())) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    public BitSet mask(Collection<String> fields) {
+        var index = fieldIndex();
+        var result = new BitSet(index.size());
+        for (var field : fields) {
+            var i = index.get(field);
+            if (isNull(i)) {
+                if (field.indexOf('.') >= 0) {
+                    throw new MapperException("Nested field paths are not supported for partial mapping (" + field + ")!");
+                }
+                throw new MapperException("Unknown field (" + field + ") for partial mapping " + source.getCanonicalName() + "->" + destination.getCanonicalName() + "!");
+            }
+            result.set(i);
+        }
+        return result;
+    }
+
+    public BitSet mask(Class<?> projection) {
+        return projections.get(projection);
+    }
+
+    protected Map<String, Integer> fieldIndex() {
+        var result = fieldIndex;
+        if (isNull(result)) {
+            result = new HashMap<>();
+            var names = fieldNames();
+            for (var i = 0; i < names.size(); i++) {
+                result.put(names.get(i), i);
+            }
+            fieldIndex = result;
+        }
+        return result;
+    }
+
+    protected List<String> projectionFields(Class<?> projection) {
+        return Arrays.stream(projection.getMethods())
+                .filter(Reflection::isGetter)
+                .map(m -> getFieldName(m.getName()))
+                .toList();
+    }
+
+    protected BiFunction<Object, T, T> buildPartial(BitSet mask) {
+        if (properties.isEmpty()) {
+            return mapper;
+        }
+        var index = fieldIndex();
+        var list = new ArrayList<TriFunction>();
+        for (var entry : properties.entrySet()) {
+            var i = index.get(entry.getKey());
+            if (isNull(i) || mask.get(i)) {
+                list.add(unwrap(entry.getValue()));
+            }
+        }
+        return compose(list);
+    }
+
     protected void build() {
         var accessors = new LinkedHashMap<String, TriFunction>();
         List<TriFunction> list;
@@ -105,36 +274,102 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
             buildMatcher(accessors);
         }
 
+        properties = accessors;
         buildMapper(accessors);
     }
 
+    public List<String> explain() {
+        var result = new ArrayList<String>();
+        for (var entry : properties.entrySet()) {
+            if (entry.getValue() instanceof PropertyMapping property) {
+                result.add(explain(property));
+            } else {
+                result.add(entry.getKey() + ": MAPPING");
+            }
+        }
+        return result;
+    }
+
+    protected String explain(PropertyMapping property) {
+        if (PropertyKind.WITHER.equals(property.getKind())) {
+            return "wither: WITHER " + property.getGetter().getName() + " [" + property.getGetterType() + "]";
+        }
+        return property.getName() + ": " + property.getKind() + " " + property.getGetter().getName() + " -> " + property.getSetter().getName()
+                + " [" + property.getGetterType() + " -> " + property.getSetterType() + "]";
+    }
+
     protected void buildMapper(Map<String, TriFunction> accessors) {
         List<TriFunction> list;
         if (accessors.isEmpty()) {
             mapper = (s, d) ->
                     destination.isInstance(s) ? destination.cast(s) : d;
         } else {
-            list = accessors.values().stream().toList();
-
-            mapper = (s, d) -> {
-                Object wither = null;
-                Object result = nonNull(d) ? d : CodeFactory.create(destination);
-                for (var accessor : list) {
-                    var res = accessor.apply(s, result, wither);
-                    if (res instanceof WitherHolder holder) {
-                        wither = holder.get();
-                    } else {
-                        result = res;
+            list = accessors.values().stream().map(MapperExecutor::unwrap).toList();
+            mapper = compose(list);
+        }
+    }
+
+    protected BiFunction<Object, T, T> compose(List<TriFunction> list) {
+        return (s, d) -> {
+            Object wither = null;
+            Object result = nonNull(d) ? d : CodeFactory.create(destination);
+            for (var accessor : list) {
+                var res = accessor.apply(s, result, wither);
+                if (res instanceof WitherHolder holder) {
+                    wither = holder.get();
+                } else {
+                    result = res;
+                }
+            }
+            return (T) result;
+        };
+    }
+
+    protected List<IncrementalProperty> buildIncremental() {
+        var result = new ArrayList<IncrementalProperty>();
+        for (var entry : properties.entrySet()) {
+            IncrementalProperty property = null;
+            if (entry.getValue() instanceof PropertyMapping mapping && !mapping.isWither() && !PropertyKind.WITHER.equals(mapping.getKind())) {
+                var reader = findReader(mapping.getSetter());
+                if (nonNull(reader)) {
+                    try {
+                        property = new IncrementalProperty(mapping.getName(), Accessors.getter(mapping.getGetter()), Accessors.getter(reader), Accessors.setter(mapping.getSetter()), mapping.getConverter(), !PropertyKind.PLAIN.equals(mapping.getKind()), null);
+                    } catch (Exception e) {
+                        log.info("Getter ({}) on {} is not accessible!", reader.getName(), destination.getCanonicalName());
                     }
                 }
-                return (T) result;
-            };
+            }
+            result.add(nonNull(property) ? property : new IncrementalProperty(entry.getKey(), null, null, null, null, false, unwrap(entry.getValue())));
+        }
+        return result;
+    }
+
+    protected Member findReader(Member setter) {
+        if (setter instanceof Field) {
+            return setter;
+        }
+        var name = setter.getName();
+        var suffix = name.length() > 3 && name.startsWith("set") ? name.substring(3) : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        var type = ((Method) setter).getParameterTypes()[0];
+        for (var cls = (Class<?>) destination; nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            for (var prefix : new String[]{"get", "is"}) {
+                try {
+                    var reader = cls.getDeclaredMethod(prefix + suffix);
+                    if (reader.getReturnType().equals(type)) {
+                        reader.setAccessible(true);
+                        return reader;
+                    }
+                } catch (Exception e) {
+                    //Continue
+                }
+            }
         }
+        return null;
     }
 
     protected void buildMatcher(HashMap<String, TriFunction> accessors) {
         switch (strategy) {
-            case GETTERS_SETTERS -> buildMatcherGettersSetters(accessors);
+            case GETTERS_SETTERS, CONSTRUCTOR -> buildMatcherGettersSetters(accessors);
             case FIELDS -> buildMatcherFields(accessors);
             case FIELDS_GETTERS_SETTERS -> {
                 buildMatcherFields(accessors);
@@ -147,6 +382,7 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
 
     protected void discoverFields(Map<String, Field> fields, Class<?> cls) {
         Arrays.stream(cls.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
                 .filter(this::shouldNotSkip)
                 .forEach(field -> fields.computeIfAbsent(field.getName(), k -> field));
         if (nonNull(cls.getSuperclass()) && !Object.class.equals(cls.getSuperclass())) {
@@ -170,7 +406,9 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
                             var name = entry.getKey();
                             var srcType = getter.getType();
                             var destType = setter.getType();
-                            if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
+                            if (isElementConversion(getter, setter)) {
+                                addConverter(accessors, destination, getter, setter, name);
+                            } else if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
                                 addPlainFieldMapping(accessors, destination, getter, setter, name);
                             } else if (isNullableToNonNullable(srcType, destType)) {
                                 addNullProtectedFieldMapping(accessors, destination, getter, setter, name);
@@ -194,7 +432,7 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
     }
 
     protected void buildConverter(HashMap<String, TriFunction> accessors) {
-        List<Mapping> mappings = (List) CodeFactory.create(MapperFactory.class).findMappings(source, destination, key);
+        List<Mapping> mappings = (List) factory.findMappings(source, destination, key);
 
         if (!mappings.isEmpty()) {
             var mapping = deside(mappings);
@@ -254,7 +492,7 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
     }
 
     protected void matchGettersSetters(Map<String, TriFunction> accessors, Class<?> source, Class<?> destination) {
-        var getters = Arrays.stream(source.getMethods())
+        var getters = source.isRecord() ? recordAccessors(source) : Arrays.stream(source.getMethods())
                 .filter(Reflection::isGetter)
                 .filter(m -> Modifier.isPublic(m.getModifiers()))
                 .filter(this::shouldNotSkip)
@@ -276,7 +514,9 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
                             var name = entry.getKey();
                             var srcType = getter.getReturnType();
                             var destType = setter.getParameterTypes()[0];
-                            if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
+                            if (isElementConversion(getter, setter)) {
+                                addConverter(accessors, destination, getter, setter, name);
+                            } else if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
                                 addPlainGetterSetterMapping(accessors, destination, getter, setter, name);
                             } else if (isNullableToNonNullable(srcType, destType)) {
                                 addNullProtectedGetterSetterMapping(accessors, destination, getter, setter, name);
@@ -298,6 +538,12 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
         }
     }
 
+    protected Map<String, Method> recordAccessors(Class<?> source) {
+        return Arrays.stream(source.getRecordComponents())
+                .filter(c -> shouldNotSkip(c.getAccessor()))
+                .collect(Collectors.toMap(RecordComponent::getName, RecordComponent::getAccessor, (n1, n2) -> n1, LinkedHashMap::new));
+    }
+
     protected void matchGettersWithers(Map<String, TriFunction> accessors, Class<?> source, Class<?> destination) {
         try {
             var wither = destination.getDeclaredMethod("with");
@@ -330,7 +576,9 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
                                     addWither(accessors, wither);
                                     witherAdded = true;
                                 }
-                                if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
+                                if (isElementConversion(getter, setter)) {
+                                    addConverterWither(accessors, destination, getter, setter, name);
+                                } else if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
                                     addPlainGetterWitherMapping(accessors, destination, getter, setter, name);
                                 } else if (isNullableToNonNullable(srcType, destType)) {
                                     addNullProtectedGetterWitherMapping(accessors, destination, getter, setter, name);
@@ -380,7 +628,9 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
                             var name = entry.getKey();
                             var srcType = getter.getReturnType();
                             var destType = setter.getParameterTypes()[0];
-                            if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
+                            if (isElementConversion(getter, setter)) {
+                                addConverter(accessors, destination, getter, setter, name);
+                            } else if (destType.isAssignableFrom(srcType) || isNonNullableToNullable(srcType, destType)) {
                                 addPlainGetterSetterMapping(accessors, destination, getter, setter, name);
                             } else if (isNullableToNonNullable(srcType, destType)) {
                                 addNullProtectedGetterSetterMapping(accessors, destination, getter, setter, name);
@@ -420,85 +670,198 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
 
 
     protected void addConverter(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
-        try {
-            setter.setAccessible(true);
-            var type = setter.getParameterTypes()[0];
-            accessors.put(name, (s, d, w) -> {
-                try {
-                    var value = getter.invoke(s);
-                    if (nonNull(value)) {
-                        if (convert) {
-                            setter.invoke(d, CodeFactory.create(MapperFactory.class).convert(value, type));
-                        } else {
-                            setter.invoke(d, CodeFactory.create(MapperFactory.class).map(value, type));
-                        }
-                    }
-                    return d;
-                } catch (Exception e) {
-                    throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
-                }
-            });
-        } catch (Exception e) {
-            log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
-        }
+        addConverterMapping(accessors, destination, getter, setter, setter.getParameterTypes()[0], name, false);
     }
 
     protected void addConverter(Map<String, TriFunction> accessors, Class<?> destination, Field getter, Field setter, String name) {
+        addConverterMapping(accessors, destination, getter, setter, setter.getType(), name, false);
+    }
+
+    protected void addConverterWither(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
+        addConverterMapping(accessors, destination, getter, setter, setter.getParameterTypes()[0], name, true);
+    }
+
+    protected void addConverterMapping(Map<String, TriFunction> accessors, Class<?> destination, Member getter, Member setter, Class<?> type, String name, boolean wither) {
         try {
-            setter.setAccessible(true);
-            var type = setter.getType();
-            accessors.put(name, (s, d, w) -> {
-                try {
-                    var value = Reflection.getFieldValue(getter, s);
-                    if (nonNull(value)) {
-                        if (convert) {
-                            Reflection.setFieldValue(setter, d, CodeFactory.create(MapperFactory.class).convert(value, type));
-                        } else {
-                            Reflection.setFieldValue(setter, d, CodeFactory.create(MapperFactory.class).map(value, type));
+            var srcType = getter instanceof Method m ? m.getReturnType() : ((Field) getter).getType();
+            var elements = CollectionConverter.of(factory, source, this.destination, getter, setter, convert);
+            var cache = nonNull(elements) ? elements : new ConverterCache(factory, source, this.destination, type, convert);
+            var stamp = factory.getModifications();
+            var resolved = wither ? null : resolvePrimitiveConverter(srcType, type);
+            var primitive = nonNull(resolved) ? compilePrimitiveConverter(getter, srcType, setter, type, name, resolved) : null;
+            var get = Accessors.getter(getter);
+            var set = Accessors.setter(setter);
+            TriFunction function;
+            if (wither) {
+                function = (s, d, w) -> {
+                    try {
+                        set.accept(w, cache.map(get.apply(s)));
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
+                    }
+                };
+            } else {
+                function = (s, d, w) -> {
+                    try {
+                        var value = get.apply(s);
+                        if (nonNull(value)) {
+                            set.accept(d, cache.map(value));
                         }
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
                     }
-                    return d;
-                } catch (Exception e) {
-                    throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
-                }
-            });
+                };
+            }
+            var kind = PropertyKind.CONVERTER;
+            function = accessor(get, set, function);
+            if (nonNull(primitive)) {
+                function = withTypes(primitive, new PrimitiveConverter(getter, srcType, setter, type, name, unwrap(function), new PrimitivePlan(stamp, resolved, unwrap(primitive))));
+                kind = PropertyKind.PRIMITIVE;
+            }
+            accessors.put(name, new PropertyMapping(name, kind, getter, srcType, setter, type, wither, function, cache));
         } catch (Exception e) {
             log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
         }
     }
 
+    protected TriFunction compilePrimitiveConverter(Member getter, Class<?> srcType, Member setter, Class<?> destType, String name) {
+        var mapping = resolvePrimitiveConverter(srcType, destType);
+        return nonNull(mapping) ? compilePrimitiveConverter(getter, srcType, setter, destType, name, mapping) : null;
+    }
 
-    protected void addConverterWither(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
+    protected PrimitiveMapper<?> resolvePrimitiveConverter(Class<?> srcType, Class<?> destType) {
+        if (!destType.isPrimitive() || !Accessors.isSpecialized(destType) || !srcType.isPrimitive() && !Modifier.isFinal(srcType.getModifiers())) {
+            return null;
+        }
         try {
-            setter.setAccessible(true);
-            var type = setter.getParameterTypes()[0];
-            accessors.put(name, (s, d, w) -> {
-                try {
-                    var value = getter.invoke(s);
-                    if (convert) {
-                        setter.invoke(w, CodeFactory.create(MapperFactory.class).convert(value, type));
-                    } else {
-                        setter.invoke(w, CodeFactory.create(MapperFactory.class).map(value, type));
-                    }
-                    return d;
-                } catch (Exception e) {
-                    throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
+            List<Mapping> mappings = (List) factory.findMappings(TypeUtils.getWrapperType(srcType), destType, key);
+            if (mappings.isEmpty() || !(deside(mappings) instanceof PrimitiveMapper<?> primitive) || !destType.equals(primitive.getTarget())) {
+                return null;
+            }
+            return primitive;
+        } catch (MapperException e) {
+            return null;
+        }
+    }
+
+    protected TriFunction compilePrimitiveConverter(Member getter, Class<?> srcType, Member setter, Class<?> destType, String name, PrimitiveMapper<?> mapping) {
+        if (int.class.equals(destType)) {
+            var set = Accessors.intSetter(setter);
+            if (long.class.equals(srcType) && mapping.find(LongToIntFunction.class) instanceof LongToIntFunction f) {
+                var get = Accessors.longGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsInt(get.applyAsLong(s))));
+            } else if (double.class.equals(srcType) && mapping.find(DoubleToIntFunction.class) instanceof DoubleToIntFunction f) {
+                var get = Accessors.doubleGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsInt(get.applyAsDouble(s))));
+            } else if (boolean.class.equals(srcType) && mapping.find(BooleanToIntFunction.class) instanceof BooleanToIntFunction f) {
+                var get = Accessors.booleanGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsInt(get.test(s))));
+            }
+            ToIntFunction<Object> f = mapping.getFunction();
+            var get = Accessors.getter(getter);
+            return guard(name, get, set, (s, d) -> {
+                var value = get.apply(s);
+                if (nonNull(value)) {
+                    set.accept(d, f.applyAsInt(value));
+                }
+            });
+        } else if (long.class.equals(destType)) {
+            var set = Accessors.longSetter(setter);
+            if (int.class.equals(srcType) && mapping.find(IntToLongFunction.class) instanceof IntToLongFunction f) {
+                var get = Accessors.intGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsLong(get.applyAsInt(s))));
+            } else if (double.class.equals(srcType) && mapping.find(DoubleToLongFunction.class) instanceof DoubleToLongFunction f) {
+                var get = Accessors.doubleGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsLong(get.applyAsDouble(s))));
+            } else if (boolean.class.equals(srcType) && mapping.find(BooleanToLongFunction.class) instanceof BooleanToLongFunction f) {
+                var get = Accessors.booleanGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsLong(get.test(s))));
+            }
+            ToLongFunction<Object> f = mapping.getFunction();
+            var get = Accessors.getter(getter);
+            return guard(name, get, set, (s, d) -> {
+                var value = get.apply(s);
+                if (nonNull(value)) {
+                    set.accept(d, f.applyAsLong(value));
+                }
+            });
+        } else if (double.class.equals(destType)) {
+            var set = Accessors.doubleSetter(setter);
+            if (int.class.equals(srcType) && mapping.find(IntToDoubleFunction.class) instanceof IntToDoubleFunction f) {
+                var get = Accessors.intGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsDouble(get.applyAsInt(s))));
+            } else if (long.class.equals(srcType) && mapping.find(LongToDoubleFunction.class) instanceof LongToDoubleFunction f) {
+                var get = Accessors.longGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsDouble(get.applyAsLong(s))));
+            } else if (boolean.class.equals(srcType) && mapping.find(BooleanToDoubleFunction.class) instanceof BooleanToDoubleFunction f) {
+                var get = Accessors.booleanGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.applyAsDouble(get.test(s))));
+            }
+            ToDoubleFunction<Object> f = mapping.getFunction();
+            var get = Accessors.getter(getter);
+            return guard(name, get, set, (s, d) -> {
+                var value = get.apply(s);
+                if (nonNull(value)) {
+                    set.accept(d, f.applyAsDouble(value));
+                }
+            });
+        } else {
+            var set = Accessors.booleanSetter(setter);
+            if (int.class.equals(srcType) && mapping.find(IntPredicate.class) instanceof IntPredicate f) {
+                var get = Accessors.intGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.test(get.applyAsInt(s))));
+            } else if (long.class.equals(srcType) && mapping.find(LongPredicate.class) instanceof LongPredicate f) {
+                var get = Accessors.longGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.test(get.applyAsLong(s))));
+            } else if (double.class.equals(srcType) && mapping.find(DoublePredicate.class) instanceof DoublePredicate f) {
+                var get = Accessors.doubleGetter(getter);
+                return guard(name, get, set, (s, d) -> set.accept(d, f.test(get.applyAsDouble(s))));
+            }
+            Predicate<Object> f = mapping.getFunction();
+            var get = Accessors.getter(getter);
+            return guard(name, get, set, (s, d) -> {
+                var value = get.apply(s);
+                if (nonNull(value)) {
+                    set.accept(d, f.test(value));
                 }
             });
-        } catch (Exception e) {
-            log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
         }
     }
 
+    protected TriFunction guard(String name, Object get, Object set, BiConsumer<Object, Object> action) {
+        return accessor(get, set, (s, d, w) -> {
+            try {
+                action.accept(s, d);
+                return d;
+            } catch (Exception e) {
+                throw mappingException(name, s, d, e);
+            }
+        });
+    }
+
+    protected static TriFunction accessor(Object get, Object set, TriFunction function) {
+        return new AccessorFunction(function, Accessors.typeOf(get), nonNull(set) ? Accessors.typeOf(set) : null);
+    }
+
+    protected MapperException mappingException(String name, Object source, Object destination, Exception e) {
+        return new MapperException("Unable to map value for field (" + name + ") for mapping (" + source.getClass().getCanonicalName() + "->" + destination.getClass().getCanonicalName() + ")!", e);
+    }
 
     protected void addWither(Map<String, TriFunction> accessors, Method wither) {
-        accessors.put("?!?wither?!?", (s, d, w) -> {
+        var with = Accessors.getter(wither);
+        accessors.put(WITHER, new PropertyMapping(WITHER, PropertyKind.WITHER, wither, destination, null, wither.getReturnType(), false, accessor(with, null, (s, d, w) -> {
             try {
-                return new WitherHolder(wither.invoke(d));
+                return new WitherHolder(with.apply(d));
             } catch (Exception e) {
                 throw new MapperException(e);
             }
-        });
+        })));
+    }
+
+    protected boolean isElementConversion(Member getter, Member setter) {
+        return nonNull(CollectionConverter.of(factory, source, destination, getter, setter, convert));
     }
 
     protected boolean isNonNullableToNullable(Class<?> srcType, Class<?> destType) {
@@ -548,115 +911,125 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
     }
 
     protected void addPlainGetterSetterMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
-        addGetterSetterMapping(accessors, destination, getter, setter, name, (v, d, s) -> {
-            try {
-                s.invoke(d, v);
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
+        addGetterSetterMapping(accessors, destination, getter, setter, name, false);
     }
 
     protected void addPlainFieldMapping(Map<String, TriFunction> accessors, Class<?> destination, Field getter, Field setter, String name) {
-        addFieldMapping(accessors, destination, getter, setter, name, (v, d, s) ->
-                Reflection.setFieldValue(s, d, v));
+        addFieldMapping(accessors, destination, getter, setter, name, false);
     }
 
-
     protected void addPlainGetterWitherMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
-        addGetterWitherMapping(accessors, destination, getter, setter, name, (v, d, s) -> {
-            try {
-                s.invoke(d, v);
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
+        addGetterWitherMapping(accessors, destination, getter, setter, name, false);
     }
 
     protected void addNullProtectedGetterSetterMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
-        addGetterSetterMapping(accessors, destination, getter, setter, name, (v, d, s) -> {
-            try {
-                if (nonNull(v)) {
-                    s.invoke(d, v);
-                }
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
+        addGetterSetterMapping(accessors, destination, getter, setter, name, true);
     }
 
     protected void addNullProtectedFieldMapping(Map<String, TriFunction> accessors, Class<?> destination, Field getter, Field setter, String name) {
-        addFieldMapping(accessors, destination, getter, setter, name, (v, d, s) -> {
-            try {
-                if (nonNull(v)) {
-                    Reflection.setFieldValue(s, d, v);
-                }
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
+        addFieldMapping(accessors, destination, getter, setter, name, true);
     }
 
     protected void addNullProtectedGetterWitherMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name) {
-        addGetterWitherMapping(accessors, destination, getter, setter, name, (v, d, s) -> {
-            try {
-                if (nonNull(v)) {
-                    s.invoke(d, v);
-                }
-            } catch (Exception e) {
-                throw new MapperException(e);
-            }
-        });
+        addGetterWitherMapping(accessors, destination, getter, setter, name, true);
     }
 
-    protected void addGetterSetterMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name, TriConsumer func) {
+    protected void addGetterSetterMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name, boolean nullProtected) {
+        addAccessorMapping(accessors, destination, getter, getter.getReturnType(), setter, setter.getParameterTypes()[0], name, nullProtected, false);
+    }
+
+    protected void addFieldMapping(Map<String, TriFunction> accessors, Class<?> destination, Field getter, Field setter, String name, boolean nullProtected) {
+        addAccessorMapping(accessors, destination, getter, getter.getType(), setter, setter.getType(), name, nullProtected, false);
+    }
+
+    protected void addGetterWitherMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name, boolean nullProtected) {
+        addAccessorMapping(accessors, destination, getter, getter.getReturnType(), setter, setter.getParameterTypes()[0], name, nullProtected, true);
+    }
+
+    protected void addAccessorMapping(Map<String, TriFunction> accessors, Class<?> destination, Member getter, Class<?> srcType, Member setter, Class<?> destType, String name, boolean nullProtected, boolean wither) {
         try {
-            setter.setAccessible(true);
-            accessors.put(name, (s, d, w) -> {
-                try {
-                    var value = getter.invoke(s);
-                    func.accept(value, d, setter);
-                    return d;
-                } catch (Exception e) {
-                    throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
-                }
-            });
+            var function = compileAccessor(getter, srcType, setter, destType, name, nullProtected, wither);
+            accessors.put(name, new PropertyMapping(name, nullProtected ? PropertyKind.NULL_PROTECTED : PropertyKind.PLAIN, getter, srcType, setter, destType, wither, function));
         } catch (Exception e) {
             log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
         }
     }
 
-    protected void addFieldMapping(Map<String, TriFunction> accessors, Class<?> destination, Field getter, Field setter, String name, TriFieldConsumer func) {
-        accessors.put(name, (s, d, w) -> {
-            try {
-                var value = Reflection.getFieldValue(getter, s);
-                func.accept(value, d, setter);
-                return d;
-            } catch (Exception e) {
-                throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
+    protected TriFunction compileAccessor(Member getter, Class<?> srcType, Member setter, Class<?> destType, String name, boolean nullProtected, boolean wither) {
+        if (srcType.equals(destType) && Accessors.isSpecialized(srcType)) {
+            if (int.class.equals(srcType)) {
+                var get = Accessors.intGetter(getter);
+                var set = Accessors.intSetter(setter);
+                return accessor(get, set, (s, d, w) -> {
+                    try {
+                        set.accept(wither ? w : d, get.applyAsInt(s));
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
+                    }
+                });
+            } else if (long.class.equals(srcType)) {
+                var get = Accessors.longGetter(getter);
+                var set = Accessors.longSetter(setter);
+                return accessor(get, set, (s, d, w) -> {
+                    try {
+                        set.accept(wither ? w : d, get.applyAsLong(s));
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
+                    }
+                });
+            } else if (double.class.equals(srcType)) {
+                var get = Accessors.doubleGetter(getter);
+                var set = Accessors.doubleSetter(setter);
+                return accessor(get, set, (s, d, w) -> {
+                    try {
+                        set.accept(wither ? w : d, get.applyAsDouble(s));
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
+                    }
+                });
+            } else {
+                var get = Accessors.booleanGetter(getter);
+                var set = Accessors.booleanSetter(setter);
+                return accessor(get, set, (s, d, w) -> {
+                    try {
+                        set.accept(wither ? w : d, get.test(s));
+                        return d;
+                    } catch (Exception e) {
+                        throw mappingException(name, s, d, e);
+                    }
+                });
             }
-        });
-    }
-
+        }
 
-    protected void addGetterWitherMapping(Map<String, TriFunction> accessors, Class<?> destination, Method getter, Method setter, String name, TriConsumer func) {
-        try {
-            setter.setAccessible(true);
-            accessors.put(name, (s, d, w) -> {
+        var get = Accessors.getter(getter);
+        var set = Accessors.setter(setter);
+        if (nullProtected) {
+            return accessor(get, set, (s, d, w) -> {
                 try {
-                    var value = getter.invoke(s);
-                    func.accept(value, w, setter);
+                    var value = get.apply(s);
+                    if (nonNull(value)) {
+                        set.accept(wither ? w : d, value);
+                    }
                     return d;
                 } catch (Exception e) {
-                    throw new MapperException("Unable to map value for field (" + name + ") for mapping (" + s.getClass().getCanonicalName() + "->" + d.getClass().getCanonicalName() + ")!", e);
+                    throw mappingException(name, s, d, e);
+                }
+            });
+        } else {
+            return accessor(get, set, (s, d, w) -> {
+                try {
+                    set.accept(wither ? w : d, get.apply(s));
+                    return d;
+                } catch (Exception e) {
+                    throw mappingException(name, s, d, e);
                 }
             });
-        } catch (Exception e) {
-            log.info("Setter ({}) on {} is not accessible!", setter.getName(), destination.getCanonicalName());
         }
     }
 
-
     protected String getFieldName(String name) {
         var start = 3;
         if (name.charAt(0) == 'i') {
@@ -668,21 +1041,248 @@ public class MapperExecutor<T> implements Mapping<Object, T> {
         return result.toString();
     }
 
-    @FunctionalInterface
-    protected interface TriConsumer {
-        void accept(Object dest, Object value, Method setter);
+    protected static TriFunction unwrap(TriFunction function) {
+        if (function instanceof PropertyMapping property) {
+            return property.getFunction();
+        } else if (function instanceof AccessorFunction accessor) {
+            return accessor.function;
+        }
+        return function;
     }
 
-    @FunctionalInterface
-    protected interface TriFieldConsumer {
-        void accept(Object dest, Object value, Field setter);
+    protected static TriFunction withTypes(TriFunction types, TriFunction function) {
+        return types instanceof AccessorFunction accessor ? new AccessorFunction(function, accessor.getterType, accessor.setterType) : function;
     }
 
-
     protected interface TriFunction {
         Object apply(Object source, Object destination, Object wither);
     }
 
+    protected enum PropertyKind {
+        PLAIN,
+        NULL_PROTECTED,
+        CONVERTER,
+        PRIMITIVE,
+        WITHER
+    }
+
+    protected static class PropertyMapping implements TriFunction {
+        protected final String name;
+        protected final PropertyKind kind;
+        protected final Member getter;
+        protected final Class<?> sourceType;
+        protected final Member setter;
+        protected final Class<?> destinationType;
+        protected final boolean wither;
+        protected final TriFunction function;
+        protected final ConverterCache converter;
+        protected final AccessorType getterType;
+        protected final AccessorType setterType;
+
+        public PropertyMapping(String name, PropertyKind kind, Member getter, Class<?> sourceType, Member setter, Class<?> destinationType, boolean wither, TriFunction function) {
+            this(name, kind, getter, sourceType, setter, destinationType, wither, function, null);
+        }
+
+        public PropertyMapping(String name, PropertyKind kind, Member getter, Class<?> sourceType, Member setter, Class<?> destinationType, boolean wither, TriFunction function, ConverterCache converter) {
+            this.name = name;
+            this.kind = kind;
+            this.getter = getter;
+            this.sourceType = sourceType;
+            this.setter = setter;
+            this.destinationType = destinationType;
+            this.wither = wither;
+            this.function = unwrap(function);
+            this.converter = converter;
+            this.getterType = function instanceof AccessorFunction accessor ? accessor.getterType : null;
+            this.setterType = function instanceof AccessorFunction accessor ? accessor.setterType : null;
+        }
+
+        @Override
+        public Object apply(Object source, Object destination, Object wither) {
+            return function.apply(source, destination, wither);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public PropertyKind getKind() {
+            return kind;
+        }
+
+        public Member getGetter() {
+            return getter;
+        }
+
+        public Class<?> getSourceType() {
+            return sourceType;
+        }
+
+        public Member getSetter() {
+            return setter;
+        }
+
+        public Class<?> getDestinationType() {
+            return destinationType;
+        }
+
+        public boolean isWither() {
+            return wither;
+        }
+
+        public TriFunction getFunction() {
+            return function;
+        }
+
+        public ConverterCache getConverter() {
+            return converter;
+        }
+
+        public AccessorType getGetterType() {
+            return getterType;
+        }
+
+        public AccessorType getSetterType() {
+            return setterType;
+        }
+    }
+
+    protected record PrimitivePlan(long stamp, PrimitiveMapper<?> mapping, TriFunction function) {
+    }
+
+    //Re-resolves the primitive converter when registrations change, and only recompiles when it's replaced
+    protected class PrimitiveConverter implements TriFunction {
+        protected final Member getter;
+        protected final Class<?> sourceType;
+        protected final Member setter;
+        protected final Class<?> destinationType;
+        protected final String name;
+        protected final TriFunction generic;
+        protected volatile PrimitivePlan plan;
+
+        public PrimitiveConverter(Member getter, Class<?> sourceType, Member setter, Class<?> destinationType, String name, TriFunction generic, PrimitivePlan plan) {
+            this.getter = getter;
+            this.sourceType = sourceType;
+            this.setter = setter;
+            this.destinationType = destinationType;
+            this.name = name;
+            this.generic = generic;
+            this.plan = plan;
+        }
+
+        @Override
+        public Object apply(Object source, Object destination, Object wither) {
+            var current = plan;
+            if (current.stamp() != factory.getModifications()) {
+                current = refresh(current);
+            }
+            return nonNull(current.function()) ? current.function().apply(source, destination, wither) : generic.apply(source, destination, wither);
+        }
+
+        protected PrimitivePlan refresh(PrimitivePlan previous) {
+            var stamp = factory.getModifications();
+            var mapping = resolvePrimitiveConverter(sourceType, destinationType);
+            TriFunction function;
+            if (mapping == previous.mapping()) {
+                function = previous.function();
+            } else {
+                function = nonNull(mapping) ? unwrap(compilePrimitiveConverter(getter, sourceType, setter, destinationType, name, mapping)) : null;
+            }
+            var result = new PrimitivePlan(stamp, mapping, function);
+            plan = result;
+            return result;
+        }
+    }
+
+    protected static class AccessorFunction implements TriFunction {
+        protected final TriFunction function;
+        protected final AccessorType getterType;
+        protected final AccessorType setterType;
+
+        public AccessorFunction(TriFunction function, AccessorType getterType, AccessorType setterType) {
+            this.function = function;
+            this.getterType = getterType;
+            this.setterType = setterType;
+        }
+
+        @Override
+        public Object apply(Object source, Object destination, Object wither) {
+            return function.apply(source, destination, wither);
+        }
+    }
+
+    protected class IncrementalProperty {
+        protected final String name;
+        protected final Function<Object, Object> getter;
+        protected final Function<Object, Object> reader;
+        protected final BiConsumer<Object, Object> setter;
+        protected final ConverterCache converter;
+        protected final boolean nullProtected;
+        protected final TriFunction fallback;
+
+        public IncrementalProperty(String name, Function<Object, Object> getter, Function<Object, Object> reader, BiConsumer<Object, Object> setter, ConverterCache converter, boolean nullProtected, TriFunction fallback) {
+            this.name = name;
+            this.getter = getter;
+            this.reader = reader;
+            this.setter = setter;
+            this.converter = converter;
+            this.nullProtected = nullProtected;
+            this.fallback = fallback;
+        }
+
+        public Object apply(Object source, Object destination, Object wither, List<MappingChanges.Change> changes) {
+            if (nonNull(fallback)) {
+                return fallback.apply(source, destination, wither);
+            }
+            try {
+                var value = getter.apply(source);
+                if (isNull(value) && nullProtected) {
+                    return destination;
+                }
+                if (nonNull(converter)) {
+                    value = converter.map(value);
+                }
+                var old = reader.apply(destination);
+                if (!Objects.deepEquals(old, value)) {
+                    setter.accept(destination, value);
+                    changes.add(new MappingChanges.Change(name, old, value));
+                }
+                return destination;
+            } catch (Exception e) {
+                throw mappingException(name, source, destination, e);
+            }
+        }
+    }
+
+    protected class PartialMapping implements Mapping<Object, T> {
+        protected final BiFunction<Object, T, T> function;
+        protected boolean referenced;
+
+        public PartialMapping(BiFunction<Object, T, T> function) {
+            this.function = function;
+        }
+
+        @Override
+        public Class getSource() {
+            return source;
+        }
+
+        @Override
+        public Class<T> getDestination() {
+            return destination;
+        }
+
+        @Override
+        public T map(Object source, T destination) {
+            return function.apply(source, destination);
+        }
+
+        @Override
+        public MappingStrategy getStrategy() {
+            return strategy;
+        }
+    }
+
     protected static class WitherHolder {
         protected final Object wither;
 
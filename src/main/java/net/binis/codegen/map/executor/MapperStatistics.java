@@ -0,0 +1,170 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.map.monitoring.MappingStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.nonNull;
+
+public class MapperStatistics {
+
+    protected static final int BUCKETS = 64;
+
+    protected final Map<Class<?>, Map<Class<?>, Pair>> pairs = new ConcurrentHashMap<>();
+    protected final ClassValue<ClassValue<Pair>> lookup = new ClassValue<>() {
+        @Override
+        protected ClassValue<Pair> computeValue(Class<?> source) {
+            return new ClassValue<>() {
+                @Override
+                protected Pair computeValue(Class<?> destination) {
+                    return pairs.computeIfAbsent(source, k -> new ConcurrentHashMap<>()).computeIfAbsent(destination, k -> new Pair(source, destination));
+                }
+            };
+        }
+    };
+
+    public Pair get(Class<?> source, Class<?> destination) {
+        return lookup.get(source).get(destination);
+    }
+
+    public Pair find(Class<?> source, Class<?> destination) {
+        var map = pairs.get(source);
+        return nonNull(map) ? map.get(destination) : null;
+    }
+
+    public void invocation(Class<?> source, Class<?> destination, long time) {
+        get(source, destination).invocation(time);
+    }
+
+    public void build(Class<?> source, Class<?> destination, long time) {
+        get(source, destination).build(time);
+    }
+
+    public void hop(Class<?> source, Class<?> destination) {
+        get(source, destination).hops.increment();
+    }
+
+    public List<MappingStatistics> all() {
+        var result = new ArrayList<MappingStatistics>();
+        pairs.values().forEach(m -> result.addAll(m.values()));
+        return result;
+    }
+
+    public static class Pair implements MappingStatistics {
+
+        protected final Class<?> source;
+        protected final Class<?> destination;
+        protected final LongAdder invocations = new LongAdder();
+        protected final LongAdder time = new LongAdder();
+        protected final LongAdder builds = new LongAdder();
+        protected final LongAdder buildTime = new LongAdder();
+        protected final LongAdder hops = new LongAdder();
+        protected final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        public Pair(Class<?> source, Class<?> destination) {
+            this.source = source;
+            this.destination = destination;
+            for (var i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        protected void invocation(long nanos) {
+            invocations.increment();
+            time.add(nanos);
+            histogram[BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 1L))].increment();
+        }
+
+        protected void build(long nanos) {
+            builds.increment();
+            buildTime.add(nanos);
+        }
+
+        @Override
+        public Class<?> getSource() {
+            return source;
+        }
+
+        @Override
+        public Class<?> getDestination() {
+            return destination;
+        }
+
+        @Override
+        public long getInvocationCount() {
+            return invocations.sum();
+        }
+
+        @Override
+        public long getTotalTime() {
+            return time.sum();
+        }
+
+        @Override
+        public long getPercentileTime(double percentile) {
+            var counts = new long[BUCKETS];
+            var total = 0L;
+            for (var i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            var target = (long) Math.ceil(total * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+            var seen = 0L;
+            for (var i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= target && counts[i] > 0) {
+                    return (1L << i) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long getBuildTime() {
+            return buildTime.sum();
+        }
+
+        @Override
+        public long getBuildCount() {
+            return builds.sum();
+        }
+
+        @Override
+        public long getConverterHops() {
+            return hops.sum();
+        }
+
+        @Override
+        public String toString() {
+            return source.getCanonicalName() + "->" + destination.getCanonicalName() + " (invocations: " + getInvocationCount() + ", time: " + getTotalTime() + "ns, p99: " + getPercentileTime(99) + "ns, build: " + getBuildTime() + "ns, hops: " + getConverterHops() + ")";
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.async.Async;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingStrategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+public class MapperWarmup {
+
+    protected static final String SEPARATOR = "\t";
+    protected static final Map<String, Class<?>> primitives = Map.of(
+            "int", int.class, "long", long.class, "double", double.class, "float", float.class,
+            "boolean", boolean.class, "byte", byte.class, "short", short.class, "char", char.class);
+    protected static final Map<String, Function<String, Object>> keys = Map.of(
+            Integer.class.getName(), Integer::valueOf, Long.class.getName(), Long::valueOf,
+            Short.class.getName(), Short::valueOf, Byte.class.getName(), Byte::valueOf,
+            Double.class.getName(), Double::valueOf, Float.class.getName(), Float::valueOf,
+            Boolean.class.getName(), Boolean::valueOf, Character.class.getName(), v -> v.charAt(0));
+
+    protected final Path file;
+    protected final Set<String> recorded = ConcurrentHashMap.newKeySet();
+    protected final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    protected final AtomicBoolean scheduled = new AtomicBoolean();
+    protected final Set<Class<?>> unsupported = ConcurrentHashMap.newKeySet();
+    protected final Thread hook = new Thread(this::flush, "mapper-warmup");
+
+    public MapperWarmup(Path file) {
+        this.file = file;
+        if (Files.exists(file)) {
+            try {
+                recorded.addAll(Files.readAllLines(file));
+            } catch (IOException e) {
+                throw new MapperException(e);
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(hook);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void record(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key) {
+        if (source.isHidden() || destination.isHidden()) {
+            return;
+        }
+        var line = new StringBuilder()
+                .append(convert).append(SEPARATOR)
+                .append(strategy.name()).append(SEPARATOR)
+                .append(source.getName()).append(SEPARATOR)
+                .append(destination.getName());
+        if (key != MapperFactory.DEFAULT) {
+            var text = key instanceof Enum<?> e ? e.name() : String.valueOf(key);
+            var type = key instanceof Enum<?> e ? e.getDeclaringClass() : key.getClass();
+            if (!(key instanceof String || key instanceof Enum || keys.containsKey(type.getName())) || text.contains(SEPARATOR) || text.contains("\n") || text.contains("\r") || text.isEmpty()) {
+                if (unsupported.add(type)) {
+                    log.warn("Unable to record mappings with key ({}) of type {} to {}!", text, type.getName(), file);
+                }
+                return;
+            }
+            line.append(SEPARATOR).append(text);
+            if (!(key instanceof String)) {
+                line.append(SEPARATOR).append(type.getName());
+            }
+        }
+
+        var value = line.toString();
+        if (recorded.add(value)) {
+            pending.add(value);
+            if (scheduled.compareAndSet(false, true)) {
+                Async.start().execute(this::flush);
+            }
+        }
+    }
+
+    public synchronized void flush() {
+        scheduled.set(false);
+        var lines = new StringBuilder();
+        for (var value = pending.poll(); nonNull(value); value = pending.poll()) {
+            lines.append(value).append(System.lineSeparator());
+        }
+        if (!lines.isEmpty()) {
+            try {
+                Files.writeString(file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.warn("Unable to record mappings to {}!", file);
+            }
+        }
+    }
+
+    public void close() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException e) {
+            //Shutdown in progress, the hook flushes.
+            return;
+        }
+        flush();
+    }
+
+    public static List<Entry> read(Path file) {
+        var result = new ArrayList<Entry>();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new MapperException(e);
+        }
+        for (var line : lines) {
+            var parts = line.split(SEPARATOR);
+            if (parts.length >= 4) {
+                try {
+                    var source = loadClass(parts[2]);
+                    var destination = loadClass(parts[3]);
+                    var key = parts.length > 5 ? key(parts[4], parts[5]) : parts.length > 4 ? parts[4] : MapperFactory.DEFAULT;
+                    result.add(new Entry(source, destination, Boolean.parseBoolean(parts[0]), MappingStrategy.valueOf(parts[1]), key));
+                } catch (Exception e) {
+                    log.info("Unable to load mapping ({})!", line);
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static Object key(String text, String type) throws ClassNotFoundException {
+        var parser = keys.get(type);
+        if (nonNull(parser)) {
+            return parser.apply(text);
+        }
+        var cls = loadClass(type);
+        if (cls.isEnum()) {
+            return Enum.valueOf((Class) cls, text);
+        }
+        throw new MapperException("Unsupported key type (" + type + ")!");
+    }
+
+    protected static Class<?> loadClass(String name) throws ClassNotFoundException {
+        var result = primitives.get(name);
+        if (nonNull(result)) {
+            return result;
+        }
+        var loader = Thread.currentThread().getContextClassLoader();
+        if (isNull(loader)) {
+            loader = MapperWarmup.class.getClassLoader();
+        }
+        return Class.forName(name, false, loader);
+    }
+
+    public record Entry(Class<?> source, Class<?> destination, boolean convert, MappingStrategy strategy, Object key) {
+    }
+
+}
@@ -0,0 +1,101 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class MappingGraph {
+
+    protected static final int INITIAL = 16;
+
+    protected Object[] sources;
+    protected Class<?>[] types;
+    protected Object[] destinations;
+    protected int size;
+
+    public Object get(Object source, Class<?> type) {
+        if (size == 0) {
+            return null;
+        }
+        var mask = sources.length - 1;
+        for (var i = index(source, type, mask); ; i = (i + 1) & mask) {
+            var current = sources[i];
+            if (isNull(current)) {
+                return null;
+            }
+            if (current == source && types[i] == type) {
+                return destinations[i];
+            }
+        }
+    }
+
+    public void put(Object source, Class<?> type, Object destination) {
+        if (isNull(sources)) {
+            sources = new Object[INITIAL];
+            types = new Class<?>[INITIAL];
+            destinations = new Object[INITIAL];
+        } else if ((size + 1) * 3 > sources.length * 2) {
+            resize();
+        }
+        var mask = sources.length - 1;
+        for (var i = index(source, type, mask); ; i = (i + 1) & mask) {
+            var current = sources[i];
+            if (isNull(current)) {
+                sources[i] = source;
+                types[i] = type;
+                destinations[i] = destination;
+                size++;
+                return;
+            }
+            if (current == source && types[i] == type) {
+                destinations[i] = destination;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    protected void resize() {
+        var oldSources = sources;
+        var oldTypes = types;
+        var oldDestinations = destinations;
+        var length = oldSources.length * 2;
+        sources = new Object[length];
+        types = new Class<?>[length];
+        destinations = new Object[length];
+        size = 0;
+        for (var i = 0; i < oldSources.length; i++) {
+            if (nonNull(oldSources[i])) {
+                put(oldSources[i], oldTypes[i], oldDestinations[i]);
+            }
+        }
+    }
+
+    protected static int index(Object source, Class<?> type, int mask) {
+        var hash = System.identityHashCode(source) * 31 + System.identityHashCode(type);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
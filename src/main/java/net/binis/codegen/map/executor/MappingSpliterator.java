@@ -0,0 +1,114 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.Mapping;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@SuppressWarnings("unchecked")
+public class MappingSpliterator<T> implements Spliterator<T> {
+
+    protected final Spliterator<?> source;
+    protected final Class<T> destination;
+    protected final boolean recycle;
+    protected final Function<Class<?>, Mapping> resolver;
+    protected final Mapping reset;
+    protected Class<?> last;
+    protected Mapping mapping;
+    protected Object instance;
+    protected Object template;
+
+    public MappingSpliterator(Spliterator<?> source, Class<T> destination, boolean recycle, Function<Class<?>, Mapping> resolver) {
+        this(source, destination, recycle, resolver, null);
+    }
+
+    public MappingSpliterator(Spliterator<?> source, Class<T> destination, boolean recycle, Function<Class<?>, Mapping> resolver, Mapping reset) {
+        this.source = source;
+        this.destination = destination;
+        this.recycle = recycle;
+        this.resolver = resolver;
+        this.reset = reset;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return source.tryAdvance(item -> action.accept(map(item)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(item -> action.accept(map(item)));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var split = source.trySplit();
+        if (isNull(split)) {
+            return null;
+        }
+        return new MappingSpliterator<>(split, destination, recycle, resolver, reset);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ~(SORTED | DISTINCT | NONNULL);
+    }
+
+    protected T map(Object item) {
+        if (isNull(item)) {
+            return null;
+        }
+        if (item.getClass() != last) {
+            last = item.getClass();
+            mapping = resolver.apply(last);
+        }
+        if (recycle) {
+            if (isNull(instance)) {
+                instance = CodeFactory.create(destination);
+            } else if (nonNull(reset)) {
+                if (isNull(template)) {
+                    template = CodeFactory.create(destination);
+                }
+                reset.map(template, instance);
+            }
+            return (T) mapping.map(item, instance);
+        }
+        return (T) mapping.map(item, null);
+    }
+
+}
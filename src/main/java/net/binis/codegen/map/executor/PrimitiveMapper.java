@@ -0,0 +1,126 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.Mapping;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.tools.TypeUtils;
+
+import java.util.function.*;
+
+import static java.util.Objects.isNull;
+
+@SuppressWarnings("unchecked")
+public class PrimitiveMapper<S> implements Mapping<S, Object> {
+
+    protected final Class<S> source;
+    protected final Class<?> destination;
+    protected final Class<?> target;
+    protected final Object function;
+    protected final Object[] specialized;
+
+    protected PrimitiveMapper(Class<S> source, Class<?> destination, Object function, Object[] specialized) {
+        this.source = source;
+        this.destination = destination;
+        this.target = TypeUtils.getPrimitiveType(destination);
+        this.function = function;
+        this.specialized = specialized;
+        if (isNull(target) || !target.equals(targetOf(function))) {
+            throw new MapperException("Invalid primitive mapping (" + source.getCanonicalName() + "->" + destination.getCanonicalName() + ")!");
+        }
+    }
+
+    public static <S> PrimitiveMapper<S> ofInt(Class<S> source, Class<?> destination, ToIntFunction<S> function, Object... specialized) {
+        return new PrimitiveMapper<>(source, destination, function, specialized);
+    }
+
+    public static <S> PrimitiveMapper<S> ofLong(Class<S> source, Class<?> destination, ToLongFunction<S> function, Object... specialized) {
+        return new PrimitiveMapper<>(source, destination, function, specialized);
+    }
+
+    public static <S> PrimitiveMapper<S> ofDouble(Class<S> source, Class<?> destination, ToDoubleFunction<S> function, Object... specialized) {
+        return new PrimitiveMapper<>(source, destination, function, specialized);
+    }
+
+    public static <S> PrimitiveMapper<S> ofBoolean(Class<S> source, Class<?> destination, Predicate<S> function, Object... specialized) {
+        return new PrimitiveMapper<>(source, destination, function, specialized);
+    }
+
+    @Override
+    public Class<S> getSource() {
+        return source;
+    }
+
+    @Override
+    public Class<Object> getDestination() {
+        return (Class) destination;
+    }
+
+    public Class<?> getTarget() {
+        return target;
+    }
+
+    public <F> F getFunction() {
+        return (F) function;
+    }
+
+    public Object find(Class<?> type) {
+        for (var f : specialized) {
+            if (type.isInstance(f)) {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object map(S source, Object destination) {
+        if (function instanceof ToIntFunction f) {
+            return f.applyAsInt(source);
+        } else if (function instanceof ToLongFunction f) {
+            return f.applyAsLong(source);
+        } else if (function instanceof ToDoubleFunction f) {
+            return f.applyAsDouble(source);
+        } else {
+            return ((Predicate) function).test(source);
+        }
+    }
+
+    @Override
+    public MappingStrategy getStrategy() {
+        return MappingStrategy.GETTERS_SETTERS;
+    }
+
+    protected static Class<?> targetOf(Object function) {
+        if (function instanceof ToIntFunction) {
+            return int.class;
+        } else if (function instanceof ToLongFunction) {
+            return long.class;
+        } else if (function instanceof ToDoubleFunction) {
+            return double.class;
+        } else if (function instanceof Predicate) {
+            return boolean.class;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,270 @@
+package net.binis.codegen.map.executor;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.map.Mapper;
+
+import java.text.ParsePosition;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public abstract class TemporalConversions {
+
+    public static final List<Class<? extends TemporalAccessor>> TEMPORAL_TYPES = List.of(OffsetDateTime.class, OffsetTime.class, LocalDateTime.class, LocalDate.class, LocalTime.class);
+
+    protected static final int NO_OFFSET = Integer.MIN_VALUE;
+    protected static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    protected static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+    protected static final Map<Class<?>, TemporalAccessor> SAMPLES = Map.of(
+            OffsetDateTime.class, OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+            OffsetTime.class, OffsetTime.of(0, 0, 0, 0, ZoneOffset.UTC),
+            LocalDateTime.class, LocalDateTime.of(2000, 1, 1, 0, 0),
+            LocalDate.class, LocalDate.of(2000, 1, 1),
+            LocalTime.class, LocalTime.MIDNIGHT);
+    protected static final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    public static LocalDate toLocalDate(CharSequence text) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        if (text.length() == 10) {
+            var result = date(text, 0);
+            if (nonNull(result)) {
+                return result;
+            }
+        }
+        return parse(text, DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+    }
+
+    public static LocalTime toLocalTime(CharSequence text) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        var nanos = time(text, 0, text.length());
+        if (nanos >= 0) {
+            return LocalTime.ofNanoOfDay(nanos);
+        }
+        return parse(text, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from);
+    }
+
+    public static LocalDateTime toLocalDateTime(CharSequence text) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        if (text.length() > 11 && text.charAt(10) == 'T') {
+            var date = date(text, 0);
+            var nanos = time(text, 11, text.length());
+            if (nonNull(date) && nanos >= 0) {
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanos));
+            }
+        }
+        return parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+    }
+
+    public static OffsetTime toOffsetTime(CharSequence text) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        var split = offsetStart(text, 0);
+        if (split > 0) {
+            var nanos = time(text, 0, split);
+            var offset = offset(text, split);
+            if (nanos >= 0 && offset != NO_OFFSET) {
+                return OffsetTime.of(LocalTime.ofNanoOfDay(nanos), ZoneOffset.ofTotalSeconds(offset));
+            }
+        }
+        return parse(text, DateTimeFormatter.ISO_OFFSET_TIME, OffsetTime::from);
+    }
+
+    public static OffsetDateTime toOffsetDateTime(CharSequence text) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        if (text.length() > 11 && text.charAt(10) == 'T') {
+            var split = offsetStart(text, 11);
+            if (split > 11) {
+                var date = date(text, 0);
+                var nanos = time(text, 11, split);
+                var offset = offset(text, split);
+                if (nonNull(date) && nanos >= 0 && offset != NO_OFFSET) {
+                    return OffsetDateTime.of(LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanos)), ZoneOffset.ofTotalSeconds(offset));
+                }
+            }
+        }
+        return parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+    }
+
+    public static <T> T parse(CharSequence text, DateTimeFormatter formatter, TemporalQuery<T> query) {
+        if (isNull(text) || text.length() == 0) {
+            return null;
+        }
+        try {
+            var position = new ParsePosition(0);
+            var parsed = formatter.parse(text, position);
+            return position.getIndex() == text.length() ? query.queryFrom(parsed) : null;
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    public static DateTimeFormatter formatter(String pattern) {
+        return formatters.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    public static <K> void registerFormat(K key, String pattern) {
+        registerFormat(key, formatter(pattern));
+    }
+
+    public static <K> void registerFormat(K key, DateTimeFormatter formatter) {
+        Mapper.registerProducerMapperKey(String.class, OffsetDateTime.class, key, (s, d) -> parse(s, formatter, OffsetDateTime::from));
+        Mapper.registerProducerMapperKey(String.class, OffsetTime.class, key, (s, d) -> parse(s, formatter, OffsetTime::from));
+        Mapper.registerProducerMapperKey(String.class, LocalDateTime.class, key, (s, d) -> parse(s, formatter, LocalDateTime::from));
+        Mapper.registerProducerMapperKey(String.class, LocalDate.class, key, (s, d) -> parse(s, formatter, LocalDate::from));
+        Mapper.registerProducerMapperKey(String.class, LocalTime.class, key, (s, d) -> parse(s, formatter, LocalTime::from));
+        for (var type : TEMPORAL_TYPES) {
+            if (isSupported(formatter, SAMPLES.get(type))) {
+                registerFormatter(type, key, formatter);
+            }
+        }
+    }
+
+    protected static <T extends TemporalAccessor, K> void registerFormatter(Class<T> type, K key, DateTimeFormatter formatter) {
+        Mapper.registerProducerMapperKey(type, String.class, key, (s, d) -> formatter.format(s));
+    }
+
+    protected static boolean isSupported(DateTimeFormatter formatter, TemporalAccessor sample) {
+        try {
+            formatter.format(sample);
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    protected static LocalDate date(CharSequence text, int from) {
+        if (text.length() < from + 10 || text.charAt(from + 4) != '-' || text.charAt(from + 7) != '-') {
+            return null;
+        }
+        var year = digits(text, from, 4);
+        var month = digits(text, from + 5, 2);
+        var day = digits(text, from + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        var days = month == 2 && Year.isLeap(year) ? 29 : DAYS_IN_MONTH[month - 1];
+        return day > days ? null : LocalDate.of(year, month, day);
+    }
+
+    protected static long time(CharSequence text, int from, int to) {
+        var length = to - from;
+        if (length < 5 || text.charAt(from + 2) != ':') {
+            return -1;
+        }
+        var hour = digits(text, from, 2);
+        var minute = digits(text, from + 3, 2);
+        var second = 0;
+        var nano = 0;
+        if (length > 5) {
+            if (length < 8 || text.charAt(from + 5) != ':') {
+                return -1;
+            }
+            second = digits(text, from + 6, 2);
+            if (length > 8) {
+                var fraction = length - 9;
+                if (text.charAt(from + 8) != '.' || fraction < 1 || fraction > 9) {
+                    return -1;
+                }
+                nano = digits(text, from + 9, fraction);
+                if (nano < 0) {
+                    return -1;
+                }
+                nano *= NANO_SCALE[fraction];
+            }
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return (hour * 3600L + minute * 60L + second) * 1_000_000_000L + nano;
+    }
+
+    protected static int offsetStart(CharSequence text, int from) {
+        for (var i = from; i < text.length(); i++) {
+            var c = text.charAt(i);
+            if (c == 'Z' || c == '+' || c == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    protected static int offset(CharSequence text, int from) {
+        var length = text.length() - from;
+        var sign = text.charAt(from);
+        if (sign == 'Z') {
+            return length == 1 ? 0 : NO_OFFSET;
+        }
+        if ((length != 6 && length != 9) || text.charAt(from + 3) != ':') {
+            return NO_OFFSET;
+        }
+        var hours = digits(text, from + 1, 2);
+        var minutes = digits(text, from + 4, 2);
+        var seconds = 0;
+        if (length == 9) {
+            if (text.charAt(from + 6) != ':') {
+                return NO_OFFSET;
+            }
+            seconds = digits(text, from + 7, 2);
+        }
+        if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+            return NO_OFFSET;
+        }
+        var total = hours * 3600 + minutes * 60 + seconds;
+        if (total > 18 * 3600) {
+            return NO_OFFSET;
+        }
+        return sign == '-' ? -total : total;
+    }
+
+    protected static int digits(CharSequence text, int from, int count) {
+        var result = 0;
+        for (var i = from; i < from + count; i++) {
+            var digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private TemporalConversions() {
+        //Do nothing
+    }
+
+}
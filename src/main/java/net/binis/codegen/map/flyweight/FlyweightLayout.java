@@ -0,0 +1,154 @@
+package net.binis.codegen.map.flyweight;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.annotation.FixedLength;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+
+public class FlyweightLayout {
+
+    protected final Class<?> type;
+    protected final List<Slot> slots;
+    protected final int size;
+
+    public FlyweightLayout(Class<?> type) {
+        if (!type.isInterface()) {
+            throw new MapperException("Flyweight layout requires an interface (" + type.getCanonicalName() + ")!");
+        }
+        this.type = type;
+        var getters = new TreeMap<String, Method>();
+        var setters = new TreeMap<String, Method>();
+        for (var method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isDefault()) {
+                continue;
+            }
+            var name = method.getName();
+            if (method.getParameterCount() == 0 && name.length() > 3 && name.startsWith("get") && !void.class.equals(method.getReturnType())) {
+                getters.put(property(name.substring(3)), method);
+            } else if (method.getParameterCount() == 0 && name.length() > 2 && name.startsWith("is") && boolean.class.equals(method.getReturnType())) {
+                getters.put(property(name.substring(2)), method);
+            } else if (method.getParameterCount() == 1 && name.length() > 3 && name.startsWith("set")) {
+                setters.put(property(name.substring(3)), method);
+            } else if (!isInherited(method)) {
+                throw new MapperException("Unsupported flyweight method (" + name + ") of " + type.getCanonicalName() + "!");
+            }
+        }
+        for (var entry : setters.entrySet()) {
+            var getter = getters.get(entry.getKey());
+            var setter = entry.getValue();
+            if (isNull(getter)) {
+                throw new MapperException("Flyweight property (" + entry.getKey() + ") of " + type.getCanonicalName() + " has a setter without a getter!");
+            }
+            if (!setter.getParameterTypes()[0].equals(getter.getReturnType()) || !(void.class.equals(setter.getReturnType()) || setter.getReturnType().isAssignableFrom(type))) {
+                throw new MapperException("Flyweight setter (" + setter.getName() + ") of " + type.getCanonicalName() + " does not match its getter!");
+            }
+        }
+        var list = new ArrayList<Slot>();
+        for (var entry : getters.entrySet()) {
+            var getter = entry.getValue();
+            var fieldType = getter.getReturnType();
+            var setter = setters.get(entry.getKey());
+            var length = 0;
+            if (String.class.equals(fieldType)) {
+                var ann = getter.getAnnotation(FixedLength.class);
+                if (isNull(ann)) {
+                    throw new MapperException("String property (" + entry.getKey() + ") of " + type.getCanonicalName() + " requires @FixedLength!");
+                }
+                length = ann.value();
+            } else if (!fieldType.isPrimitive() && !fieldType.isEnum() && !CodeEnum.class.isAssignableFrom(fieldType)) {
+                throw new MapperException("Unsupported flyweight property (" + entry.getKey() + ") of type " + fieldType.getCanonicalName() + "!");
+            }
+            list.add(new Slot(entry.getKey(), fieldType, getter, setter, 0, width(fieldType, length), length));
+        }
+        list.sort(Comparator.comparingInt(FlyweightLayout::alignment).reversed());
+        var result = new ArrayList<Slot>(list.size());
+        var offset = 0;
+        for (var slot : list) {
+            result.add(new Slot(slot.name(), slot.type(), slot.getter(), slot.setter(), offset, slot.width(), slot.length()));
+            offset += slot.width();
+        }
+        slots = List.copyOf(result);
+        size = (offset + 7) & ~7;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public List<Slot> getSlots() {
+        return slots;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<String> explain() {
+        return slots.stream().map(s -> s.name() + ": " + s.offset() + "+" + s.width() + " " + s.type().getSimpleName()).toList();
+    }
+
+    protected static boolean isInherited(Method method) {
+        for (var cls : new Class<?>[]{Flyweight.class, Object.class}) {
+            try {
+                cls.getMethod(method.getName(), method.getParameterTypes());
+                return true;
+            } catch (NoSuchMethodException e) {
+                //Do nothing
+            }
+        }
+        return false;
+    }
+
+    protected static String property(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    protected static int width(Class<?> type, int length) {
+        if (String.class.equals(type)) {
+            return 2 + length;
+        } else if (long.class.equals(type) || double.class.equals(type)) {
+            return 8;
+        } else if (int.class.equals(type) || float.class.equals(type) || !type.isPrimitive()) {
+            return 4;
+        } else if (short.class.equals(type) || char.class.equals(type)) {
+            return 2;
+        }
+        return 1;
+    }
+
+    protected static int alignment(Slot slot) {
+        return String.class.equals(slot.type()) ? 0 : slot.width();
+    }
+
+    public record Slot(String name, Class<?> type, Method getter, Method setter, int offset, int width, int length) {
+    }
+
+}
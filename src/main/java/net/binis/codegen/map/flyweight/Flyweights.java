@@ -0,0 +1,216 @@
+package net.binis.codegen.map.flyweight;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.generator.ClassFileWriter;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.isNull;
+import static net.binis.codegen.map.generator.ClassFileWriter.*;
+
+@SuppressWarnings("unchecked")
+public abstract class Flyweights {
+
+    protected static final String BUFFER = internalName(ByteBuffer.class);
+
+    protected static final ClassValue<FlyweightLayout> layouts = new ClassValue<>() {
+        @Override
+        protected FlyweightLayout computeValue(Class<?> type) {
+            return new FlyweightLayout(type);
+        }
+    };
+
+    protected static final ClassValue<MethodHandle> factories = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return generate(layout(type));
+        }
+    };
+
+    protected static final ClassValue<Object[]> enums = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    public static FlyweightLayout layout(Class<?> type) {
+        return layouts.get(type);
+    }
+
+    public static <T> T create(Class<T> type) {
+        try {
+            return (T) factories.get(type).invoke();
+        } catch (MapperException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MapperException("Unable to create flyweight for " + type.getCanonicalName() + "!", e instanceof Exception ex ? ex : new RuntimeException(e));
+        }
+    }
+
+    public static <T> T wrap(Class<T> type, ByteBuffer buffer, int offset) {
+        var result = create(type);
+        ((Flyweight) result).wrap(buffer, offset);
+        return result;
+    }
+
+    public static ByteBuffer allocate(Class<?> type, int count) {
+        return ByteBuffer.allocateDirect(layout(type).getSize() * count);
+    }
+
+    public static boolean getBoolean(ByteBuffer buffer, int offset) {
+        return buffer.get(offset) != 0;
+    }
+
+    public static void putBoolean(ByteBuffer buffer, int offset, boolean value) {
+        buffer.put(offset, (byte) (value ? 1 : 0));
+    }
+
+    public static String getString(ByteBuffer buffer, int offset, int length) {
+        var size = buffer.getShort(offset);
+        if (size < 0) {
+            return null;
+        }
+        var bytes = new byte[Math.min(size, length)];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void putString(ByteBuffer buffer, int offset, int length, String value) {
+        if (isNull(value)) {
+            buffer.putShort(offset, (short) -1);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > length) {
+            throw new MapperException("Value exceeds fixed length of " + length + " bytes!");
+        }
+        buffer.putShort(offset, (short) bytes.length);
+        buffer.put(offset + 2, bytes);
+    }
+
+    public static Object getEnum(ByteBuffer buffer, int offset, Class<?> type) {
+        var ordinal = buffer.getInt(offset);
+        if (ordinal < 0) {
+            return null;
+        }
+        if (type.isEnum()) {
+            var constants = enums.get(type);
+            if (ordinal >= constants.length) {
+                throw new MapperException("Invalid ordinal (" + ordinal + ") for " + type.getCanonicalName() + "!");
+            }
+            return constants[ordinal];
+        }
+        return CodeFactory.enumValueOf((Class) type, ordinal);
+    }
+
+    public static void putEnum(ByteBuffer buffer, int offset, Object value) {
+        buffer.putInt(offset, isNull(value) ? -1 : value instanceof Enum<?> e ? e.ordinal() : ((CodeEnum) value).ordinal());
+    }
+
+    protected static MethodHandle generate(FlyweightLayout layout) {
+        var type = layout.getType();
+        var writer = new ClassFileWriter(ACC_PUBLIC | ACC_FINAL, internalName(type) + "$$Flyweight", internalName(AbstractFlyweight.class), internalName(type));
+        writer.declareMethod(ACC_PUBLIC, "<init>", "()V")
+                .load(Object.class, 0)
+                .invoke(INVOKESPECIAL, internalName(AbstractFlyweight.class), "<init>", "()V", false)
+                .op(RETURN);
+
+        for (var slot : layout.getSlots()) {
+            var code = writer.declareMethod(ACC_PUBLIC, slot.getter().getName(), descriptor(slot.getter()));
+            position(code, slot);
+            if (String.class.equals(slot.type())) {
+                code.iconst(slot.length())
+                        .invoke(INVOKESTATIC, internalName(Flyweights.class), "getString", methodDescriptor(String.class, ByteBuffer.class, int.class, int.class), false);
+            } else if (boolean.class.equals(slot.type())) {
+                code.invoke(INVOKESTATIC, internalName(Flyweights.class), "getBoolean", methodDescriptor(boolean.class, ByteBuffer.class, int.class), false);
+            } else if (slot.type().isPrimitive()) {
+                code.invoke(INVOKEVIRTUAL, BUFFER, byte.class.equals(slot.type()) ? "get" : "get" + accessor(slot.type()), methodDescriptor(slot.type(), int.class), false);
+            } else {
+                code.op(LDC_W, writer.cls(internalName(slot.type())))
+                        .invoke(INVOKESTATIC, internalName(Flyweights.class), "getEnum", methodDescriptor(Object.class, ByteBuffer.class, int.class, Class.class), false)
+                        .type(CHECKCAST, internalName(slot.type()));
+            }
+            code.ret(slot.type());
+
+            var setter = slot.setter();
+            if (setter != null) {
+                code = writer.declareMethod(ACC_PUBLIC, setter.getName(), descriptor(setter));
+                position(code, slot);
+                if (String.class.equals(slot.type())) {
+                    code.iconst(slot.length())
+                            .load(String.class, 1)
+                            .invoke(INVOKESTATIC, internalName(Flyweights.class), "putString", methodDescriptor(void.class, ByteBuffer.class, int.class, int.class, String.class), false);
+                } else if (boolean.class.equals(slot.type())) {
+                    code.load(boolean.class, 1)
+                            .invoke(INVOKESTATIC, internalName(Flyweights.class), "putBoolean", methodDescriptor(void.class, ByteBuffer.class, int.class, boolean.class), false);
+                } else if (slot.type().isPrimitive()) {
+                    code.load(slot.type(), 1)
+                            .invoke(INVOKEVIRTUAL, BUFFER, byte.class.equals(slot.type()) ? "put" : "put" + accessor(slot.type()), methodDescriptor(ByteBuffer.class, int.class, slot.type()), false)
+                            .op(POP);
+                } else {
+                    code.load(Object.class, 1)
+                            .invoke(INVOKESTATIC, internalName(Flyweights.class), "putEnum", methodDescriptor(void.class, ByteBuffer.class, int.class, Object.class), false);
+                }
+                if (void.class.equals(setter.getReturnType())) {
+                    code.op(RETURN);
+                } else {
+                    code.load(Object.class, 0).op(ARETURN);
+                }
+            }
+        }
+
+        try {
+            var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            var hidden = lookup.defineHiddenClass(writer.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+        } catch (Exception e) {
+            throw new MapperException("Unable to generate flyweight for " + type.getCanonicalName() + "!", e);
+        }
+    }
+
+    protected static void position(ClassFileWriter.Code code, FlyweightLayout.Slot slot) {
+        code.load(Object.class, 0)
+                .field(GETFIELD, internalName(AbstractFlyweight.class), "buffer", descriptor(ByteBuffer.class))
+                .load(Object.class, 0)
+                .field(GETFIELD, internalName(AbstractFlyweight.class), "offset", "I")
+                .iconst(slot.offset())
+                .op(IADD);
+    }
+
+    protected static String accessor(Class<?> type) {
+        var name = type.getName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private Flyweights() {
+        //Do nothing
+    }
+
+}
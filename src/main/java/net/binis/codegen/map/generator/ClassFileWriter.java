@@ -0,0 +1,482 @@
+package net.binis.codegen.map.generator;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Minimal class file writer for the straight line classes the mapper generates. Classes are emitted with
+ * version 49 so no stack map frames are required and the inference verifier is used.
+ */
+public class ClassFileWriter {
+
+    public static final int ACC_PUBLIC = 0x0001;
+    public static final int ACC_STATIC = 0x0008;
+    public static final int ACC_FINAL = 0x0010;
+    public static final int ACC_SUPER = 0x0020;
+
+    public static final int ACONST_NULL = 0x01;
+    public static final int ICONST_0 = 0x03;
+    public static final int BIPUSH = 0x10;
+    public static final int SIPUSH = 0x11;
+    public static final int LDC_W = 0x13;
+    public static final int ILOAD = 0x15;
+    public static final int LLOAD = 0x16;
+    public static final int FLOAD = 0x17;
+    public static final int DLOAD = 0x18;
+    public static final int ALOAD = 0x19;
+    public static final int AALOAD = 0x32;
+    public static final int ISTORE = 0x36;
+    public static final int LSTORE = 0x37;
+    public static final int DSTORE = 0x39;
+    public static final int POP = 0x57;
+    public static final int POP2 = 0x58;
+    public static final int DUP = 0x59;
+    public static final int IADD = 0x60;
+    public static final int I2L = 0x85;
+    public static final int GOTO = 0xa7;
+    public static final int IRETURN = 0xac;
+    public static final int LRETURN = 0xad;
+    public static final int FRETURN = 0xae;
+    public static final int DRETURN = 0xaf;
+    public static final int ARETURN = 0xb0;
+    public static final int RETURN = 0xb1;
+    public static final int GETSTATIC = 0xb2;
+    public static final int GETFIELD = 0xb4;
+    public static final int PUTFIELD = 0xb5;
+    public static final int INVOKEVIRTUAL = 0xb6;
+    public static final int INVOKESPECIAL = 0xb7;
+    public static final int INVOKESTATIC = 0xb8;
+    public static final int INVOKEINTERFACE = 0xb9;
+    public static final int NEW = 0xbb;
+    public static final int CHECKCAST = 0xc0;
+    public static final int IFNULL = 0xc6;
+
+    protected final Map<String, Integer> constants = new HashMap<>();
+    protected final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    protected final DataOutputStream poolOut = new DataOutputStream(pool);
+    protected final List<Code> methods = new ArrayList<>();
+    protected final int access;
+    protected final int thisClass;
+    protected final int superClass;
+    protected final int[] interfaces;
+    protected int poolSize = 1;
+
+    public ClassFileWriter(int access, String name, String superName, String... interfaces) {
+        this.access = access | ACC_SUPER;
+        this.thisClass = cls(name);
+        this.superClass = cls(superName);
+        this.interfaces = new int[interfaces.length];
+        for (var i = 0; i < interfaces.length; i++) {
+            this.interfaces[i] = cls(interfaces[i]);
+        }
+    }
+
+    public static String internalName(Class<?> cls) {
+        return cls.getName().replace('.', '/');
+    }
+
+    public static String descriptor(Class<?> cls) {
+        if (cls.isPrimitive()) {
+            if (int.class.equals(cls)) {
+                return "I";
+            } else if (long.class.equals(cls)) {
+                return "J";
+            } else if (double.class.equals(cls)) {
+                return "D";
+            } else if (float.class.equals(cls)) {
+                return "F";
+            } else if (boolean.class.equals(cls)) {
+                return "Z";
+            } else if (byte.class.equals(cls)) {
+                return "B";
+            } else if (short.class.equals(cls)) {
+                return "S";
+            } else if (char.class.equals(cls)) {
+                return "C";
+            }
+            return "V";
+        } else if (cls.isArray()) {
+            return internalName(cls);
+        }
+        return "L" + internalName(cls) + ";";
+    }
+
+    public static String methodDescriptor(Class<?> ret, Class<?>... params) {
+        var result = new StringBuilder("(");
+        for (var param : params) {
+            result.append(descriptor(param));
+        }
+        return result.append(')').append(descriptor(ret)).toString();
+    }
+
+    public static String descriptor(Method method) {
+        return methodDescriptor(method.getReturnType(), method.getParameterTypes());
+    }
+
+    public static int size(Class<?> cls) {
+        if (void.class.equals(cls)) {
+            return 0;
+        }
+        return long.class.equals(cls) || double.class.equals(cls) ? 2 : 1;
+    }
+
+    public static int typeSize(char type) {
+        return switch (type) {
+            case 'V' -> 0;
+            case 'J', 'D' -> 2;
+            default -> 1;
+        };
+    }
+
+    public static int argumentSize(String descriptor) {
+        var result = 0;
+        for (var i = 1; descriptor.charAt(i) != ')'; i++) {
+            var c = descriptor.charAt(i);
+            result += typeSize(c);
+            while (c == '[') {
+                c = descriptor.charAt(++i);
+            }
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+        }
+        return result;
+    }
+
+    public int utf8(String value) {
+        return constant("U" + value, out -> {
+            out.writeByte(1);
+            out.writeUTF(value);
+        });
+    }
+
+    public int cls(String name) {
+        var idx = utf8(name);
+        return constant("C" + name, out -> {
+            out.writeByte(7);
+            out.writeShort(idx);
+        });
+    }
+
+    public int integer(int value) {
+        return constant("I" + value, out -> {
+            out.writeByte(3);
+            out.writeInt(value);
+        });
+    }
+
+    public int nameAndType(String name, String descriptor) {
+        var n = utf8(name);
+        var d = utf8(descriptor);
+        return constant("N" + name + ":" + descriptor, out -> {
+            out.writeByte(12);
+            out.writeShort(n);
+            out.writeShort(d);
+        });
+    }
+
+    public int field(String owner, String name, String descriptor) {
+        return member(9, owner, name, descriptor);
+    }
+
+    public int method(String owner, String name, String descriptor, boolean isInterface) {
+        return member(isInterface ? 11 : 10, owner, name, descriptor);
+    }
+
+    protected int member(int tag, String owner, String name, String descriptor) {
+        var c = cls(owner);
+        var nt = nameAndType(name, descriptor);
+        return constant(tag + owner + "." + name + ":" + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(c);
+            out.writeShort(nt);
+        });
+    }
+
+    protected int constant(String key, PoolWriter writer) {
+        var existing = constants.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            writer.write(poolOut);
+        } catch (IOException e) {
+            throw new MapperException(e);
+        }
+        var result = poolSize++;
+        constants.put(key, result);
+        return result;
+    }
+
+    public Code declareMethod(int access, String name, String descriptor) {
+        var result = new Code(access, utf8(name), utf8(descriptor), descriptor);
+        methods.add(result);
+        return result;
+    }
+
+    public byte[] toByteArray() {
+        var code = utf8("Code");
+        try (var bytes = new ByteArrayOutputStream(); var out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+            out.writeShort(poolSize);
+            poolOut.flush();
+            out.write(pool.toByteArray());
+            out.writeShort(access);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (var i : interfaces) {
+                out.writeShort(i);
+            }
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (var m : methods) {
+                m.write(out, code);
+            }
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new MapperException(e);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface PoolWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    public static class Label {
+        protected int position = -1;
+        protected final List<Integer> references = new ArrayList<>();
+    }
+
+    public class Code {
+
+        protected final int access;
+        protected final int name;
+        protected final int descriptor;
+        protected final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        protected final List<Label> labels = new ArrayList<>();
+        protected int stack;
+        protected int maxStack;
+        protected int maxLocals;
+
+        protected Code(int access, int name, int descriptor, String signature) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxLocals = ((access & ACC_STATIC) != 0 ? 0 : 1) + argumentSize(signature);
+        }
+
+        public Code op(int opcode) {
+            code.write(opcode);
+            switch (opcode) {
+                case ACONST_NULL, DUP, I2L -> adjust(1);
+                case AALOAD, POP, IADD -> adjust(-1);
+                case POP2 -> adjust(-2);
+                case IRETURN, LRETURN, FRETURN, DRETURN, ARETURN, RETURN -> stack = 0;
+                default -> {
+                    //No stack effect
+                }
+            }
+            return this;
+        }
+
+        public Code op(int opcode, int index) {
+            code.write(opcode);
+            u2(index);
+            if (opcode == LDC_W || opcode == NEW) {
+                adjust(1);
+            }
+            return this;
+        }
+
+        public Code local(int opcode, int index) {
+            var wide = opcode == LLOAD || opcode == DLOAD || opcode == LSTORE || opcode == DSTORE ? 2 : 1;
+            adjust(opcode >= ISTORE ? -wide : wide);
+            maxLocals = Math.max(maxLocals, index + wide);
+            if (index > 255) {
+                code.write(0xc4);
+                code.write(opcode);
+                u2(index);
+            } else {
+                code.write(opcode);
+                code.write(index);
+            }
+            return this;
+        }
+
+        public Code load(Class<?> type, int index) {
+            return local(loadOpcode(type), index);
+        }
+
+        public Code store(Class<?> type, int index) {
+            return local(loadOpcode(type) + (ISTORE - ILOAD), index);
+        }
+
+        public Code ret(Class<?> type) {
+            if (void.class.equals(type)) {
+                return op(RETURN);
+            }
+            return op(IRETURN + (loadOpcode(type) - ILOAD));
+        }
+
+        public Code pop(Class<?> type) {
+            return switch (size(type)) {
+                case 1 -> op(POP);
+                case 2 -> op(POP2);
+                default -> this;
+            };
+        }
+
+        public Code iconst(int value) {
+            adjust(1);
+            if (value >= -1 && value <= 5) {
+                code.write(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.write(BIPUSH);
+                code.write(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.write(SIPUSH);
+                u2(value);
+            } else {
+                code.write(LDC_W);
+                u2(integer(value));
+            }
+            return this;
+        }
+
+        public Code invoke(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            var idx = method(owner, name, descriptor, isInterface);
+            var args = (opcode == INVOKESTATIC ? 0 : 1) + argumentSize(descriptor);
+            code.write(opcode);
+            u2(idx);
+            if (opcode == INVOKEINTERFACE) {
+                code.write(args);
+                code.write(0);
+            }
+            adjust(typeSize(descriptor.charAt(descriptor.indexOf(')') + 1)) - args);
+            return this;
+        }
+
+        public Code invoke(Method method) {
+            var owner = method.getDeclaringClass();
+            var opcode = java.lang.reflect.Modifier.isStatic(method.getModifiers()) ? INVOKESTATIC : owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+            return invoke(opcode, internalName(owner), method.getName(), descriptor(method), owner.isInterface());
+        }
+
+        public Code field(int opcode, String owner, String name, String descriptor) {
+            var size = typeSize(descriptor.charAt(0));
+            switch (opcode) {
+                case GETSTATIC -> adjust(size);
+                case GETFIELD -> adjust(size - 1);
+                case PUTFIELD -> adjust(-size - 1);
+                default -> adjust(-size);
+            }
+            return op(opcode, ClassFileWriter.this.field(owner, name, descriptor));
+        }
+
+        public Code type(int opcode, String name) {
+            return op(opcode, cls(name));
+        }
+
+        public Label label() {
+            var result = new Label();
+            labels.add(result);
+            return result;
+        }
+
+        public Code jump(int opcode, Label label) {
+            if (opcode != GOTO) {
+                adjust(-1);
+            }
+            label.references.add(code.size());
+            code.write(opcode);
+            u2(0);
+            return this;
+        }
+
+        public Code bind(Label label) {
+            label.position = code.size();
+            return this;
+        }
+
+        protected void adjust(int delta) {
+            stack += delta;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        protected void u2(int value) {
+            code.write((value >> 8) & 0xff);
+            code.write(value & 0xff);
+        }
+
+        protected int loadOpcode(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return ALOAD;
+            } else if (long.class.equals(type)) {
+                return LLOAD;
+            } else if (double.class.equals(type)) {
+                return DLOAD;
+            } else if (float.class.equals(type)) {
+                return FLOAD;
+            }
+            return ILOAD;
+        }
+
+        protected void write(DataOutputStream out, int codeName) throws IOException {
+            var bytes = code.toByteArray();
+            for (var label : labels) {
+                for (var ref : label.references) {
+                    var offset = label.position - ref;
+                    bytes[ref + 1] = (byte) ((offset >> 8) & 0xff);
+                    bytes[ref + 2] = (byte) (offset & 0xff);
+                }
+            }
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + bytes.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+}
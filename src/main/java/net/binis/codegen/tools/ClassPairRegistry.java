@@ -0,0 +1,86 @@
+package net.binis.codegen.tools;
+
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ClassPairRegistry<V> {
+
+    protected final ClassValue<Anchor<V>> anchors = new ClassValue<>() {
+        @Override
+        protected Anchor<V> computeValue(Class<?> type) {
+            return new Anchor<>();
+        }
+    };
+
+    public V get(Class<?> first, Class<?> second) {
+        var result = anchors.get(first).seconds.get(second);
+        if (isNull(result)) {
+            result = anchors.get(second).firsts.get(first);
+        }
+        return result;
+    }
+
+    public V computeIfAbsent(Class<?> first, Class<?> second, BiFunction<Class<?>, Class<?>, V> function) {
+        var result = get(first, second);
+        if (isNull(result)) {
+            if (outlives(second, first)) {
+                result = anchors.get(first).seconds.computeIfAbsent(second, k -> function.apply(first, second));
+            } else {
+                result = anchors.get(second).firsts.computeIfAbsent(first, k -> function.apply(first, second));
+            }
+        }
+        return result;
+    }
+
+    public V remove(Class<?> first, Class<?> second) {
+        var result = anchors.get(first).seconds.remove(second);
+        if (isNull(result)) {
+            result = anchors.get(second).firsts.remove(first);
+        }
+        return result;
+    }
+
+    public static boolean outlives(Class<?> type, Class<?> other) {
+        var loader = type.getClassLoader();
+        if (isNull(loader)) {
+            return true;
+        }
+        for (var current = other.getClassLoader(); nonNull(current); current = current.getParent()) {
+            if (current == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static class Anchor<V> {
+        protected final Map<Class<?>, V> seconds = new ConcurrentHashMap<>();
+        protected final Map<Class<?>, V> firsts = new ConcurrentHashMap<>();
+    }
+
+}
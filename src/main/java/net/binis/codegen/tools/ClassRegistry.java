@@ -0,0 +1,105 @@
+package net.binis.codegen.tools;
+
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ClassRegistry<V> {
+
+    protected final ClassValue<Entry<V>> entries = new ClassValue<>() {
+        @Override
+        protected Entry<V> computeValue(Class<?> type) {
+            return new Entry<>();
+        }
+    };
+    protected final Map<Class<?>, Boolean> keys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public V get(Class<?> key) {
+        return entries.get(key).value;
+    }
+
+    public boolean containsKey(Class<?> key) {
+        return nonNull(get(key));
+    }
+
+    public V put(Class<?> key, V value) {
+        var entry = entries.get(key);
+        synchronized (entry) {
+            var result = entry.value;
+            entry.value = value;
+            keys.put(key, Boolean.TRUE);
+            return result;
+        }
+    }
+
+    public V remove(Class<?> key) {
+        var entry = entries.get(key);
+        synchronized (entry) {
+            var result = entry.value;
+            entry.value = null;
+            keys.remove(key);
+            return result;
+        }
+    }
+
+    public V computeIfAbsent(Class<?> key, Function<Class<?>, V> function) {
+        var entry = entries.get(key);
+        var result = entry.value;
+        if (isNull(result)) {
+            var value = function.apply(key);
+            synchronized (entry) {
+                result = entry.value;
+                if (isNull(result) && nonNull(value)) {
+                    entry.value = value;
+                    keys.put(key, Boolean.TRUE);
+                    result = value;
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<Class<?>> keys() {
+        synchronized (keys) {
+            return new ArrayList<>(keys.keySet());
+        }
+    }
+
+    public void forEach(BiConsumer<Class<?>, V> action) {
+        for (var key : keys()) {
+            var value = get(key);
+            if (nonNull(value)) {
+                action.accept(key, value);
+            }
+        }
+    }
+
+    protected static class Entry<V> {
+        protected volatile V value;
+    }
+
+}
@@ -53,6 +53,14 @@ public class TypeUtils {
         return wrapperPrimitiveMap.containsKey(type);
     }
 
+    public static Class<?> getWrapperType(Class<?> type) {
+        if (type.isPrimitive()) {
+            return primitiveWrapperMap.get(type);
+        } else {
+            return type;
+        }
+    }
+
     public static Class<?> getPrimitiveType(Class<?> type) {
         if (type.isPrimitive()) {
             return type;
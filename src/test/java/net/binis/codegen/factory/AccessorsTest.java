@@ -0,0 +1,92 @@
+package net.binis.codegen.factory;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import net.binis.codegen.map.accessor.AccessorType;
+import net.binis.codegen.map.accessor.Accessors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessorsTest {
+
+    @Test
+    void testMethods() throws NoSuchMethodException {
+        var obj = new TestAccessor();
+
+        var setter = Accessors.setter(TestAccessor.class.getDeclaredMethod("setName", String.class));
+        var getter = Accessors.getter(TestAccessor.class.getDeclaredMethod("getName"));
+        assertEquals(AccessorType.LAMBDA, Accessors.typeOf(setter));
+        assertEquals(AccessorType.LAMBDA, Accessors.typeOf(getter));
+        setter.accept(obj, "test");
+        assertEquals("test", getter.apply(obj));
+
+        var intSetter = Accessors.intSetter(TestAccessor.class.getDeclaredMethod("setCount", int.class));
+        var intGetter = Accessors.intGetter(TestAccessor.class.getDeclaredMethod("getCount"));
+        assertEquals(AccessorType.LAMBDA, Accessors.typeOf(intGetter));
+        intSetter.accept(obj, 5);
+        assertEquals(5, intGetter.applyAsInt(obj));
+
+        var boolSetter = Accessors.booleanSetter(TestAccessor.class.getDeclaredMethod("setActive", boolean.class));
+        var boolGetter = Accessors.booleanGetter(TestAccessor.class.getDeclaredMethod("isActive"));
+        boolSetter.accept(obj, true);
+        assertTrue(boolGetter.test(obj));
+
+        var boxed = Accessors.getter(TestAccessor.class.getDeclaredMethod("getCount"));
+        assertEquals(5, boxed.apply(obj));
+    }
+
+    @Test
+    void testFields() throws NoSuchFieldException {
+        var obj = new TestAccessor();
+
+        var setter = Accessors.longSetter(TestAccessor.class.getDeclaredField("amount"));
+        var getter = Accessors.longGetter(TestAccessor.class.getDeclaredField("amount"));
+        assertEquals(AccessorType.METHOD_HANDLE, Accessors.typeOf(getter));
+        setter.accept(obj, 10L);
+        assertEquals(10L, getter.applyAsLong(obj));
+
+        var fin = Accessors.setter(TestAccessor.class.getDeclaredField("fixed"));
+        fin.accept(obj, "changed");
+        assertEquals("changed", Accessors.getter(TestAccessor.class.getDeclaredField("fixed")).apply(obj));
+    }
+
+    @Test
+    void testExceptions() throws NoSuchMethodException {
+        var getter = Accessors.getter(TestAccessor.class.getDeclaredMethod("getFailing"));
+        assertThrows(IllegalStateException.class, () -> getter.apply(new TestAccessor()));
+    }
+
+    @Data
+    private static class TestAccessor {
+        private String name;
+        private int count;
+        private boolean active;
+        private long amount;
+        private final String fixed = "fixed";
+
+        public String getFailing() {
+            throw new IllegalStateException();
+        }
+    }
+
+}
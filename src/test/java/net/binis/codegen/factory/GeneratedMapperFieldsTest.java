@@ -0,0 +1,41 @@
+package net.binis.codegen.factory;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.map.MapperFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+
+class GeneratedMapperFieldsTest extends MapperFieldsTest {
+
+    private static MapperFactory original;
+
+    @BeforeAll
+    static void enableGeneration() {
+        original = GeneratedMapperTest.enable();
+    }
+
+    @AfterAll
+    static void disableGeneration() {
+        GeneratedMapperTest.restore(original);
+    }
+
+}
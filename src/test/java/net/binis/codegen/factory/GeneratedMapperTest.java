@@ -0,0 +1,141 @@
+package net.binis.codegen.factory;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import net.binis.codegen.config.DefaultMappings;
+import net.binis.codegen.map.Mapper;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.executor.DefaultMapperExecutor;
+import net.binis.codegen.map.executor.GeneratedMapperExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedMapperTest extends MapperTest {
+
+    private static MapperFactory original;
+
+    @BeforeAll
+    static void enableGeneration() {
+        original = enable();
+    }
+
+    @AfterAll
+    static void disableGeneration() {
+        restore(original);
+    }
+
+    static MapperFactory enable() {
+        var result = CodeFactory.create(MapperFactory.class);
+        var factory = new DefaultMapperExecutor();
+        factory.setCodeGeneration(true);
+        CodeFactory.forceRegisterType(MapperFactory.class, CodeFactory.singleton(factory), null);
+        DefaultMappings.initialize();
+        return result;
+    }
+
+    static void restore(MapperFactory factory) {
+        CodeFactory.forceRegisterType(MapperFactory.class, CodeFactory.singleton(factory), null);
+    }
+
+    @Test
+    void testGenerated() {
+        assertTrue(CodeFactory.create(MapperFactory.class).isCodeGeneration());
+
+        var mapping = CodeFactory.create(MapperFactory.class).mapping(GenSource.class, GenDestination.class);
+        assertTrue(mapping instanceof GeneratedMapperExecutor);
+        assertTrue(((GeneratedMapperExecutor) mapping).isGenerated());
+
+        var source = new GenSource();
+        source.setName("name");
+        source.setCount(3);
+        source.setAmount(4L);
+        source.setBoxed(5);
+        source.setNumber(6);
+        source.setValue(7.0);
+        source.setConverted(8);
+
+        var result = Mapper.map(source, GenDestination.class);
+        assertEquals("name", result.getName());
+        assertEquals(3, result.getCount());
+        assertEquals(4L, result.getAmount());
+        assertEquals(5, result.getBoxed());
+        assertEquals(6, result.getNumber());
+        assertEquals(7.0, result.getValue());
+        assertEquals(8L, result.getConverted());
+
+        source.setNumber(null);
+        result.setNumber(9);
+        assertSame(result, Mapper.map(source, result));
+        assertEquals(9, result.getNumber());
+    }
+
+    @Test
+    void testGeneratedFields() {
+        var mapping = CodeFactory.create(MapperFactory.class).mapping(GenSource.class, GenDestination.class, MappingStrategy.FIELDS);
+        assertTrue(((GeneratedMapperExecutor) mapping).isGenerated());
+
+        var source = new GenSource();
+        source.setName("fields");
+        source.setBoxed(10);
+        var result = Mapper.map(source, GenDestination.class, MappingStrategy.FIELDS);
+        assertEquals("fields", result.getName());
+        assertEquals(10, result.getBoxed());
+    }
+
+    @Test
+    void testGeneratedException() {
+        var source = new GenSource() {
+            @Override
+            public String getName() {
+                throw new IllegalStateException();
+            }
+        };
+        assertThrows(RuntimeException.class, () -> Mapper.map(source, GenDestination.class));
+    }
+
+    @Data
+    private static class GenSource {
+        private String name;
+        private int count;
+        private long amount;
+        private int boxed;
+        private Integer number;
+        private double value;
+        private int converted;
+    }
+
+    @Data
+    private static class GenDestination {
+        private String name;
+        private int count;
+        private long amount;
+        private Integer boxed;
+        private int number;
+        private double value;
+        private long converted;
+    }
+
+}
@@ -29,6 +29,7 @@ import net.binis.codegen.map.MappingStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.Serializable;
 import java.time.*;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalField;
@@ -136,6 +137,14 @@ class MapperFieldsTest {
         assertEquals(1, TestMap.instanceCount);
     }
 
+    @Test
+    void testSerializable() {
+        var test = new SerialMap();
+        test.setName("name");
+        var result = Mapper.map(test, SerialMap2.class, MappingStrategy.FIELDS);
+        assertEquals("name", result.getName());
+    }
+
     @Data
     private static class BaseMap {
         private String baseString;
@@ -179,4 +188,16 @@ class MapperFieldsTest {
         private String builder;
     }
 
+    @Data
+    private static class SerialMap implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String name;
+    }
+
+    @Data
+    private static class SerialMap2 implements Serializable {
+        private static final long serialVersionUID = 2L;
+        private String name;
+    }
+
 }
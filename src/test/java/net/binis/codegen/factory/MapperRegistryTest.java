@@ -0,0 +1,635 @@
+package net.binis.codegen.factory;
+
+/*-
+ * #%L
+ * code-generator-core
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.executor.ConverterCache;
+import net.binis.codegen.map.executor.DefaultMapperExecutor;
+import net.binis.codegen.map.executor.LambdaMapperExecutor;
+import net.binis.codegen.map.executor.MapperExecutor;
+import net.binis.codegen.map.executor.MapperWarmup;
+import net.binis.codegen.map.executor.PrimitiveMapper;
+import net.binis.codegen.tools.ClassPairRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapperRegistryTest {
+
+    @Test
+    void testConcurrentRegistration() throws InterruptedException {
+        var factory = new DefaultMapperExecutor();
+        var mapping = factory.mapping(RegSource.class, RegDestination.class);
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (var t = 0; t < 8; t++) {
+            var offset = t * 100;
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (var i = 0; i < 100; i++) {
+                    factory.registerMapper(mapping, offset + i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        for (var i = 0; i < 800; i++) {
+            assertSame(mapping, factory.getExactMap(RegSource.class, RegDestination.class, i));
+        }
+    }
+
+    @Test
+    void testSingleFlightBuild() throws InterruptedException {
+        var builds = new AtomicInteger();
+        var factory = new DefaultMapperExecutor() {
+            @Override
+            protected MapperExecutor createExecutor(Class source, Class destination, boolean convert, MappingStrategy strategy, Object key) {
+                builds.incrementAndGet();
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.createExecutor(source, destination, convert, strategy, key);
+            }
+        };
+        var start = new CountDownLatch(1);
+        var results = new ConcurrentLinkedQueue<RegDestination>();
+        var threads = new ArrayList<Thread>();
+        for (var t = 0; t < 8; t++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                results.add(factory.map(new RegSource("name"), RegDestination.class));
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, builds.get());
+        assertEquals(8, results.size());
+        results.forEach(r -> assertEquals("name", r.getName()));
+    }
+
+    @Test
+    void testBoundedCache() throws InterruptedException {
+        var factory = new DefaultMapperExecutor();
+        var pinned = factory.mapping(RegSource.class, RegDestination.class);
+        factory.registerMapper(pinned, "pinned");
+        factory.setCacheLimits(2, null);
+
+        for (var i = 0; i < 10; i++) {
+            assertEquals("name", factory.map(new RegSource("name"), RegDestination.class, i).getName());
+            factory.map(new RegSource("name"), RegDestination.class, i);
+        }
+        var stats = factory.getCacheStatistics();
+        assertEquals(2, stats.getSize());
+        assertEquals(8, stats.getEvictionCount());
+        assertEquals(10, stats.getMissCount());
+        assertEquals(10, stats.getHitCount());
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, 0));
+        assertNotNull(factory.getExactMap(RegSource.class, RegDestination.class, 9));
+        assertSame(pinned, factory.getExactMap(RegSource.class, RegDestination.class, "pinned"));
+
+        factory.setCacheLimits(1, null);
+        assertEquals(1, factory.getCacheStatistics().getSize());
+        assertEquals(1, factory.getCacheStatistics().getEvictionCount());
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, 8));
+        assertNotNull(factory.getExactMap(RegSource.class, RegDestination.class, 9));
+
+        factory.setCacheLimits(0, Duration.ofMillis(1));
+        assertEquals(1, factory.getCacheStatistics().getSize());
+        factory.map(new RegSource("name"), RegDestination.class, "idle");
+        for (var i = 0; i < 2; i++) {
+            Thread.sleep(20);
+            factory.cleanUpCache();
+        }
+        assertEquals(2, factory.getCacheStatistics().getEvictionCount());
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, "idle"));
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, 9));
+        assertSame(pinned, factory.getExactMap(RegSource.class, RegDestination.class, "pinned"));
+
+        factory.setCacheLimits(0, Duration.ofMillis(1));
+        factory.map(new RegSource("name"), RegDestination.class, "lookup");
+        for (var i = 0; i < 2; i++) {
+            Thread.sleep(20);
+            factory.getExactMap(RegSource.class, RegDestination.class, "pinned");
+        }
+        assertEquals(1, factory.getCacheStatistics().getEvictionCount());
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, "lookup"));
+
+        factory.setCacheLimits(0, null);
+        assertNull(factory.getCacheStatistics());
+
+        for (var i = 0; i < 5; i++) {
+            factory.map(new RegSource("name"), RegDestination.class, "late" + i);
+        }
+        factory.setCacheLimits(2, null);
+        assertEquals(2, factory.getCacheStatistics().getSize());
+        assertEquals(3, factory.getCacheStatistics().getEvictionCount());
+        assertSame(pinned, factory.getExactMap(RegSource.class, RegDestination.class, "pinned"));
+        assertEquals(2, IntStream.range(0, 5).filter(i -> nonNull(factory.getExactMap(RegSource.class, RegDestination.class, "late" + i))).count());
+    }
+
+    @Test
+    void testClear() {
+        var factory = new DefaultMapperExecutor();
+        var mapping = factory.mapping(RegSource.class, RegDestination.class);
+        factory.registerMapper(mapping);
+        factory.registerMapper(mapping, "key");
+        assertTrue(factory.canMapExactly(RegSource.class, RegDestination.class));
+        assertFalse(factory.canMapExactly(RegDestination.class, RegSource.class));
+
+        assertSame(mapping, factory.clearMapping(RegSource.class, RegDestination.class));
+        assertNull(factory.getExactMap(RegSource.class, RegDestination.class, "key"));
+        assertNull(factory.clearMapping(RegSource.class, RegDestination.class));
+
+        factory.registerMapper(mapping);
+        factory.clearAllMappings();
+        assertFalse(factory.canMapExactly(RegSource.class, RegDestination.class));
+        assertEquals("test", factory.map(new RegSource("test"), RegDestination.class).getName());
+        assertTrue(factory.canMapExactly(RegSource.class, RegDestination.class));
+    }
+
+    @Test
+    void testResolutionCache() {
+        var factory = new DefaultMapperExecutor();
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class).isEmpty());
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class).isEmpty());
+
+        var mapping = new LambdaMapperExecutor(RegNamed.class, RegDestination.class, false, false, MappingStrategy.GETTERS_SETTERS, (s, d) -> d);
+        factory.registerMapper(mapping, "other");
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class).isEmpty());
+        assertEquals(List.of(mapping), factory.findMappings(RegSource.class, RegDestination.class, "other"));
+
+        factory.registerMapper(mapping);
+        assertEquals(List.of(mapping), factory.findMappings(RegSource.class, RegDestination.class));
+        assertEquals(List.of(mapping), factory.findMappings(RegSource.class, RegDestination.class));
+
+        factory.clearMapping(RegNamed.class, RegDestination.class);
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class).isEmpty());
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class, "other").isEmpty());
+
+        factory.registerMapper(mapping);
+        factory.clearAllMappings();
+        var miss = factory.findMappings(RegSource.class, RegDestination.class);
+        assertTrue(miss.isEmpty());
+        assertEquals("test", factory.map(new RegSource("test"), RegDestination.class).getName());
+        assertSame(miss, factory.findMappings(RegSource.class, RegDestination.class));
+    }
+
+    @Test
+    void testLookupAllocation() {
+        var created = new ArrayList<String>();
+        var factory = new DefaultMapperExecutor() {
+            @Override
+            protected ClassPairRegistry<Registration> createRegistry() {
+                return new ClassPairRegistry<>() {
+                    @Override
+                    public Registration computeIfAbsent(Class<?> first, Class<?> second, BiFunction<Class<?>, Class<?>, Registration> function) {
+                        return super.computeIfAbsent(first, second, (s, d) -> {
+                            created.add(s.getSimpleName() + "->" + d.getSimpleName());
+                            return function.apply(s, d);
+                        });
+                    }
+                };
+            }
+        };
+        created.clear();
+        assertNull(factory.getExactMap(RegSource.class, Integer.class));
+        assertFalse(factory.canMapExactly(RegSource.class, Long.class));
+        assertTrue(created.isEmpty());
+
+        assertTrue(factory.findMappings(RegSource.class, RegDestination.class).isEmpty());
+        assertEquals(List.of("RegSource->RegDestination"), created);
+
+        factory.registerMapper(new LambdaMapperExecutor(RegNamed.class, RegDestination.class, false, false, MappingStrategy.GETTERS_SETTERS, (s, d) -> d));
+        assertEquals(List.of("RegSource->RegDestination", "RegNamed->RegDestination"), created);
+    }
+
+    @Test
+    void testClassLoaderRelease() throws Exception {
+        var factory = new DefaultMapperExecutor();
+        var loader = mapIsolated(factory);
+        for (var i = 0; i < 100 && nonNull(loader.get()); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+        assertEquals("test", factory.map(new LoaderBean("test"), LoaderBean.class).getName());
+    }
+
+    private WeakReference<ClassLoader> mapIsolated(DefaultMapperExecutor factory) throws Exception {
+        var loader = new IsolatingLoader(LoaderBean.class.getName());
+        var cls = loader.loadClass(LoaderBean.class.getName());
+        assertNotSame(LoaderBean.class, cls);
+
+        var result = factory.map(new LoaderBean("test"), cls);
+        assertEquals("test", factory.map(result, LoaderBean.class).getName());
+        var resolution = factory.findMappings(LoaderBean.class, cls);
+        assertSame(resolution, factory.findMappings(LoaderBean.class, cls));
+
+        CodeFactory.registerType(cls, () -> factory.map(new LoaderBean("test"), cls));
+        assertTrue(CodeFactory.isRegisteredType(cls));
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    void testConverterCache() {
+        var factory = new DefaultMapperExecutor();
+        factory.registerMapper(new LambdaMapperExecutor(Integer.class, String.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> "i" + s));
+        var cache = new ConverterCache(factory, String.class, true);
+        assertEquals(0, cache.size());
+        assertEquals("i1", cache.map(1));
+        assertEquals("i2", cache.map(2));
+        assertEquals(1, cache.size());
+        assertNull(cache.map(null));
+
+        factory.registerMapper(new LambdaMapperExecutor(Integer.class, String.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> "j" + s));
+        assertEquals(0, cache.size());
+        assertEquals("j1", cache.map(1));
+        assertEquals(1, cache.size());
+
+        var stamp = factory.getModifications();
+        factory.setCacheLimits(1, null);
+        assertEquals("test", factory.map(new RegSource("test"), RegDestination.class).getName());
+        assertEquals("test", factory.map(new RegSource("test"), RegDestination.class, "key").getName());
+        assertEquals(1, factory.getCacheStatistics().getEvictionCount());
+        assertEquals(stamp, factory.getModifications());
+        assertEquals(1, cache.size());
+        assertEquals("j3", cache.map(3));
+    }
+
+    @Test
+    void testPrimitiveConverterRevalidation() {
+        var factory = new DefaultMapperExecutor();
+        factory.setMonitoring(true);
+        factory.registerMapper(PrimitiveMapper.ofLong(Integer.class, long.class, i -> i * 10L));
+        assertEquals(50L, factory.map(new PrimSource(5), PrimDestination.class).getCount());
+        assertTrue(factory.explain(PrimSource.class, PrimDestination.class).contains("count: PRIMITIVE getCount -> setCount [LAMBDA -> LAMBDA]"));
+
+        factory.registerMapper(new LambdaMapperExecutor(String.class, RegDestination.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> new RegDestination()));
+        assertEquals(50L, factory.map(new PrimSource(5), PrimDestination.class).getCount());
+        assertEquals(0, factory.getStatistics(PrimSource.class, PrimDestination.class).getConverterHops());
+
+        factory.registerMapper(PrimitiveMapper.ofLong(Integer.class, long.class, i -> i * 20L));
+        assertEquals(100L, factory.map(new PrimSource(5), PrimDestination.class).getCount());
+        assertEquals(0, factory.getStatistics(PrimSource.class, PrimDestination.class).getConverterHops());
+
+        factory.registerMapper(new LambdaMapperExecutor(Integer.class, long.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> ((Integer) s) * 100L));
+        assertEquals(500L, factory.map(new PrimSource(5), PrimDestination.class).getCount());
+    }
+
+    @Test
+    void testWarmup(@TempDir Path dir) throws IOException {
+        var file = dir.resolve("mappings.warmup");
+        var factory = new DefaultMapperExecutor();
+        factory.recordWarmup(file);
+        assertEquals("test", factory.map(new RegSource("test"), RegDestination.class).getName());
+        factory.map(new RegSource("test"), RegDestination.class, "key");
+        factory.map(new RegSource("test"), RegDestination.class, 1);
+        factory.map(new RegSource("test"), RegDestination.class, TimeUnit.SECONDS);
+        factory.map(new RegSource("test"), RegDestination.class, List.of());
+        factory.recordWarmup(null);
+        factory.map(new RegDestination(), RegDestination.class);
+        assertEquals(4, Files.readAllLines(file).size());
+
+        var warm = new DefaultMapperExecutor();
+        assertEquals(4, warm.warmup(file).join());
+        assertTrue(warm.canMapExactly(RegSource.class, RegDestination.class));
+        assertNotNull(warm.getExactMap(RegSource.class, RegDestination.class, "key"));
+        assertNotNull(warm.getExactMap(RegSource.class, RegDestination.class, 1));
+        assertNotNull(warm.getExactMap(RegSource.class, RegDestination.class, TimeUnit.SECONDS));
+        assertNull(warm.getExactMap(RegSource.class, RegDestination.class, List.of()));
+
+        var parallel = new DefaultMapperExecutor();
+        assertEquals(4, parallel.warmup(file, "warmup").join());
+        assertTrue(parallel.canMapExactly(RegSource.class, RegDestination.class));
+
+        var mapping = parallel.precompile(RegDestination.class, RegSource.class);
+        assertSame(mapping, parallel.precompile(RegDestination.class, RegSource.class));
+
+        var recorder = new MapperWarmup(file);
+        recorder.record(RegSource.class, RegDestination.class, false, MappingStrategy.GETTERS_SETTERS, MapperFactory.DEFAULT);
+        recorder.record(RegDestination.class, RegSource.class, false, MappingStrategy.GETTERS_SETTERS, MapperFactory.DEFAULT);
+        recorder.record(RegDestination.class, RegSource.class, false, MappingStrategy.GETTERS_SETTERS, MapperFactory.DEFAULT);
+        recorder.close();
+        assertEquals(5, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void testMonitoring() {
+        var factory = new DefaultMapperExecutor();
+        factory.registerMapper(new LambdaMapperExecutor(Integer.class, String.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> "#" + s));
+        factory.map(new MonSource("name", 1), MonDestination.class);
+        assertFalse(factory.isMonitoring());
+        assertTrue(factory.getStatistics().isEmpty());
+
+        factory.setMonitoring(true);
+        factory.clearMapping(MonSource.class, MonDestination.class);
+        for (var i = 0; i < 10; i++) {
+            assertEquals("#" + i, factory.map(new MonSource("name", i), MonDestination.class).getCount());
+        }
+        var stats = factory.getStatistics(MonSource.class, MonDestination.class);
+        assertEquals(10, stats.getInvocationCount());
+        assertEquals(1, stats.getBuildCount());
+        assertEquals(10, stats.getConverterHops());
+        assertTrue(stats.getBuildTime() > 0);
+        assertTrue(stats.getTotalTime() > 0);
+        assertTrue(stats.getPercentileTime(50) <= stats.getPercentileTime(99));
+        assertTrue(stats.getPercentileTime(99) > 0);
+
+        var explain = factory.explain(MonSource.class, MonDestination.class);
+        assertTrue(explain.contains("name: PLAIN getName -> setName [LAMBDA -> LAMBDA]"));
+        assertTrue(explain.contains("count: CONVERTER getCount -> setCount [LAMBDA -> LAMBDA]"));
+
+        factory.resetStatistics();
+        assertNull(factory.getStatistics(MonSource.class, MonDestination.class));
+        factory.setMonitoring(false);
+        assertFalse(factory.isMonitoring());
+    }
+
+    @Test
+    void testGraph() {
+        var factory = new DefaultMapperExecutor();
+        var customer = new GraphCustomer();
+        customer.setName("customer");
+        var first = new GraphOrder();
+        first.setId("first");
+        first.setCustomer(customer);
+        var second = new GraphOrder();
+        second.setId("second");
+        second.setCustomer(customer);
+        customer.setLast(second);
+        var batch = new GraphBatch();
+        batch.setFirst(first);
+        batch.setSecond(second);
+
+        var result = factory.mapGraph(batch, GraphBatchDto.class);
+        assertEquals("first", result.getFirst().getId());
+        assertEquals("second", result.getSecond().getId());
+        assertEquals("customer", result.getFirst().getCustomer().getName());
+        assertSame(result.getFirst().getCustomer(), result.getSecond().getCustomer());
+        assertSame(result.getSecond(), result.getFirst().getCustomer().getLast());
+        assertFalse(factory.isGraph());
+
+        var converted = factory.convertGraph(second, GraphOrderDto.class);
+        assertSame(converted, converted.getCustomer().getLast());
+
+        customer.setLast(null);
+        var plain = factory.map(batch, GraphBatchDto.class);
+        assertNotSame(plain.getFirst().getCustomer(), plain.getSecond().getCustomer());
+    }
+
+    @Test
+    void testChanges() {
+        var factory = new DefaultMapperExecutor();
+        factory.registerMapper(new LambdaMapperExecutor(Integer.class, String.class, false, true, MappingStrategy.GETTERS_SETTERS, (s, d) -> "#" + s));
+        var entity = new ChangeEntity();
+        var changes = factory.mapChanges(new ChangeSource("name", 5, null, 7), entity);
+        assertSame(entity, changes.getDestination());
+        assertEquals(Set.of("name", "count", "code"), Set.copyOf(changes.getNames()));
+        assertEquals("#7", entity.getCode());
+        assertEquals(3, entity.getWrites().size());
+
+        entity.getWrites().clear();
+        changes = factory.mapChanges(new ChangeSource("name", 6, 10, 7), entity);
+        assertEquals(Set.of("count", "amount"), Set.copyOf(changes.getNames()));
+        assertEquals(Set.of("count", "amount"), Set.copyOf(entity.getWrites()));
+        var change = changes.getChanges().stream().filter(c -> c.name().equals("count")).findFirst().orElseThrow();
+        assertEquals(5, change.oldValue());
+        assertEquals(6, change.newValue());
+        assertTrue(changes.isChanged("amount"));
+        assertFalse(changes.isChanged("name"));
+
+        entity.getWrites().clear();
+        changes = factory.mapChanges(new ChangeSource("name", 6, 10, 7), entity);
+        assertFalse(changes.hasChanges());
+        assertTrue(entity.getWrites().isEmpty());
+
+        assertFalse(factory.mapChanges(null, entity).hasChanges());
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ChangeSource {
+        private String name;
+        private int count;
+        private Integer amount;
+        private int code;
+    }
+
+    public static class ChangeEntity {
+        private final List<String> writes = new ArrayList<>();
+        private String name;
+        private int count;
+        private int amount;
+        private String code;
+
+        public List<String> getWrites() {
+            return writes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            writes.add("name");
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            writes.add("count");
+            this.count = count;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public void setAmount(int amount) {
+            writes.add("amount");
+            this.amount = amount;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            writes.add("code");
+            this.code = code;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class GraphBatch {
+        private GraphOrder first;
+        private GraphOrder second;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphOrder {
+        private String id;
+        private GraphCustomer customer;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphCustomer {
+        private String name;
+        private GraphOrder last;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphBatchDto {
+        private GraphOrderDto first;
+        private GraphOrderDto second;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphOrderDto {
+        private String id;
+        private GraphCustomerDto customer;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphCustomerDto {
+        private String name;
+        private GraphOrderDto last;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class MonSource {
+        private String name;
+        private int count;
+    }
+
+    @Data
+    public static class MonDestination {
+        private String name;
+        private String count;
+    }
+
+    private static class IsolatingLoader extends ClassLoader {
+        private final String isolated;
+
+        private IsolatingLoader(String isolated) {
+            super(MapperRegistryTest.class.getClassLoader());
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isolated.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                var result = findLoadedClass(name);
+                if (isNull(result)) {
+                    try (var stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        var bytes = stream.readAllBytes();
+                        result = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return result;
+            }
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PrimSource {
+        private int count;
+    }
+
+    @Data
+    public static class PrimDestination {
+        private long count;
+    }
+
+    private interface RegNamed {
+        String getName();
+    }
+
+    @Data
+    private static class RegSource implements RegNamed {
+        private final String name;
+    }
+
+    @Data
+    private static class RegDestination {
+        private String name;
+    }
+
+}
@@ -22,17 +22,56 @@ package net.binis.codegen.factory;
 
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.async.executor.CodeExecutor;
+import net.binis.codegen.annotation.FixedLength;
 import net.binis.codegen.annotation.type.GenerationStrategy;
+import net.binis.codegen.exception.MapperException;
 import net.binis.codegen.map.Mapper;
 import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.map.Mapping;
 import net.binis.codegen.map.MappingStrategy;
+import net.binis.codegen.map.codec.BinaryCodec;
+import net.binis.codegen.map.executor.ArrayConversions;
+import net.binis.codegen.map.executor.ConstructorMapperExecutor;
+import net.binis.codegen.map.executor.MapperExecutor;
+import net.binis.codegen.map.executor.TemporalConversions;
+import net.binis.codegen.map.flyweight.Flyweight;
+import net.binis.codegen.map.flyweight.FlyweightLayout;
+import net.binis.codegen.map.flyweight.Flyweights;
+import net.binis.codegen.map.monitoring.MapperMonitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
 import java.time.*;
 import java.time.temporal.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static java.time.temporal.ChronoField.*;
 import static java.time.temporal.ChronoUnit.SECONDS;
@@ -81,6 +120,103 @@ class MapperTest {
         assertEquals("true", resultTest.getConvert2());
     }
 
+    @Test
+    void testMapAll() {
+        var list = new ArrayList<TestMap>();
+        for (var i = 0; i < 3000; i++) {
+            var test = new TestMap();
+            test.setString1("test" + i);
+            test.setInt1(i);
+            test.setConvert2(i % 2 == 0);
+            list.add(test);
+        }
+        list.add(null);
+
+        var result = Mapper.mapAll(list, TestMap2.class);
+        assertEquals(list.size(), result.size());
+        assertEquals("test5", result.get(5).getString1());
+        assertEquals(5, result.get(5).getInt1());
+        assertEquals("false", result.get(5).getConvert2());
+        assertNull(result.get(3000));
+
+        assertEquals(result, Mapper.mapAll(list.toArray(), TestMap2.class));
+        assertEquals(result, Mapper.mapAllParallel(list, TestMap2.class));
+
+        var into = new ArrayList<>(result.subList(0, 10));
+        into.forEach(t -> t.setBuilder("keep"));
+        assertSame(into, Mapper.mapInto(list.subList(10, 20), into));
+        assertEquals("test15", into.get(5).getString1());
+        assertEquals("keep", into.get(5).getBuilder());
+        assertThrows(MapperException.class, () -> Mapper.mapInto(list, into));
+
+        assertEquals(List.of(1, 2), Mapper.convertAll(List.of(1L, 2L), int.class));
+        assertEquals(List.of("1", "2"), Mapper.convertAll(new Object[]{1, 2L}, String.class));
+    }
+
+    @Test
+    void testMapAsync() {
+        var list = new ArrayList<TestMap>();
+        for (var i = 0; i < 3000; i++) {
+            var test = new TestMap();
+            test.setString1("test" + i);
+            test.setInt1(i);
+            list.add(test);
+        }
+
+        var result = Mapper.mapAllAsync(list, TestMap2.class, CodeExecutor.VIRTUAL).join();
+        assertEquals(list.size(), result.size());
+        for (var i = 0; i < result.size(); i++) {
+            assertEquals("test" + i, result.get(i).getString1());
+        }
+        assertEquals(result, Mapper.mapAllAsync(list, TestMap2.class).join());
+        assertEquals("test7", Mapper.mapAsync(list.get(7), TestMap2.class).join().getString1());
+
+        assertEquals(5, Mapper.convertAsync(5L, int.class).join());
+        assertEquals(List.of(1, 2), Mapper.convertAllAsync(List.of(1L, 2L), int.class).join());
+        assertTrue(Mapper.mapAllAsync(List.of(), TestMap2.class).join().isEmpty());
+
+        var failed = Mapper.mapAsync(new PrimitiveSource(0, 0L, 0.0, false, "x", null), PrimitiveDestination.class);
+        assertInstanceOf(MapperException.class, assertThrows(CompletionException.class, failed::join).getCause());
+    }
+
+    @Test
+    void testStream() {
+        var list = new ArrayList<TestMap>();
+        for (var i = 0; i < 5000; i++) {
+            var test = new TestMap();
+            test.setString1("test" + i);
+            test.setInt1(i);
+            list.add(test);
+        }
+
+        var result = Mapper.stream(list.stream(), TestMap2.class).toList();
+        assertEquals(5000, result.size());
+        assertEquals("test7", result.get(7).getString1());
+
+        var parallel = Mapper.stream(list.parallelStream(), TestMap2.class).map(TestMap2::getInt1).toList();
+        assertEquals(5000, parallel.size());
+        assertEquals(4999, parallel.get(4999));
+        assertEquals(5000, Mapper.spliterator(list.spliterator(), TestMap2.class, false).getExactSizeIfKnown());
+
+        var instances = Collections.newSetFromMap(new IdentityHashMap<TestMap2, Boolean>());
+        var names = new ArrayList<String>();
+        Mapper.stream(list.stream().limit(3), TestMap2.class, true).forEach(t -> {
+            instances.add(t);
+            names.add(t.getString1());
+        });
+        assertEquals(1, instances.size());
+        assertEquals(List.of("test0", "test1", "test2"), names);
+
+        var rows = List.of(new StreamRow("a", 1, "2020-01-01"), new StreamRow("b", null, null));
+        for (var recycle : List.of(false, true)) {
+            var mapped = new ArrayList<String>();
+            Mapper.stream(rows.stream(), StreamTarget.class, recycle).forEach(t -> mapped.add(t.getName() + "/" + t.getCount() + "/" + t.getDate()));
+            assertEquals(List.of("a/1/2020-01-01", "b/0/null"), mapped);
+        }
+
+        assertEquals(List.of("test0", "test1"), Mapper.stream(list.subList(0, 2).iterator(), TestMap2.class).map(TestMap2::getString1).toList());
+    }
+
     @Test
     void testMapping() {
         assertEquals(1, Mapper.convert(1L, int.class));
@@ -247,6 +383,32 @@ class MapperTest {
         assertEquals(ZonedDateTime.of(2020, 1, 1, 2, 15, 0, 0, ZoneId.of("Europe/Sofia")), Mapper.convert(OffsetDateTime.of(2020, 1, 1, 2, 15, 0, 0, ZoneOffset.UTC), ZonedDateTime.class));
     }
 
+    @Test
+    void testTemporalParsing() {
+        for (var text : List.of("2024-02-29T10:15:30.123456789+02:00", "2024-01-01T00:00Z", "2024-01-01T23:59:59-05:30:15", "+12024-01-01T00:00:00Z")) {
+            assertEquals(OffsetDateTime.parse(text), TemporalConversions.toOffsetDateTime(text));
+        }
+        for (var text : List.of("10:15:30.5", "00:00", "23:59:59")) {
+            assertEquals(LocalTime.parse(text), TemporalConversions.toLocalTime(text));
+            assertEquals(OffsetTime.parse(text + "+01:00"), TemporalConversions.toOffsetTime(text + "+01:00"));
+            assertEquals(LocalDateTime.parse("2020-12-31T" + text), TemporalConversions.toLocalDateTime("2020-12-31T" + text));
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), Mapper.convert("2024-02-29", LocalDate.class));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 1, 2), Mapper.convert("2024-02-29T01:02", LocalDateTime.class));
+
+        for (var text : List.of("", " ", "2023-02-29", "2024-13-01", "24:00", "2024-01-01T10:15+19:00", "2024-01-01T10:15:30.1234567890Z", "garbage")) {
+            assertNull(TemporalConversions.toLocalDate(text));
+            assertNull(TemporalConversions.toLocalTime(text));
+            assertNull(TemporalConversions.toOffsetDateTime(text));
+        }
+
+        Mapper.registerTemporalFormat("bg", "dd.MM.yyyy");
+        assertEquals(LocalDate.of(2024, 2, 29), Mapper.convert("29.02.2024", LocalDate.class, "bg"));
+        assertNull(Mapper.convert("2024-02-29", LocalDate.class, "bg"));
+        assertEquals("29.02.2024", Mapper.convert(LocalDate.of(2024, 2, 29), String.class, "bg"));
+        assertEquals("2024-02-29", Mapper.convert(LocalDate.of(2024, 2, 29), String.class));
+    }
+
     @Test
     void testToMap() {
         var test = new TestMap();
@@ -331,6 +493,402 @@ class MapperTest {
         assertEquals(3, result.length);
     }
 
+    @Test
+    void testArrayConversions() {
+        assertArrayEquals(new long[]{1, 2, 3}, Mapper.convert(new int[]{1, 2, 3}, long[].class));
+        assertArrayEquals(new int[]{1, 2, 3}, Mapper.convert(new double[]{1.5, 2.2, 3.9}, int[].class));
+        assertArrayEquals(new short[]{1, -1}, Mapper.convert(new int[]{1, 65535}, short[].class));
+        assertArrayEquals(new double[]{1, 2, 3}, Mapper.convert(List.of(1, 2L, "3"), double[].class));
+        assertArrayEquals(new float[]{1.5f, 2}, Mapper.convert(new LinkedHashSet<>(List.of(1.5, 2)), float[].class));
+        assertEquals(List.of(1.5f, 2.5f), Mapper.convert(new float[]{1.5f, 2.5f}, List.class));
+        assertEquals(List.of('a', 'b'), Mapper.convert(new char[]{'a', 'b'}, List.class));
+        assertArrayEquals(new int[]{-1, (int) 1_000_000_000_000L}, Mapper.convert(new long[]{Long.MAX_VALUE, 1_000_000_000_000L}, int[].class));
+        assertArrayEquals(new int[]{Integer.MAX_VALUE}, Mapper.convert(new double[]{1e12}, int[].class));
+        var copy = new int[]{1, 2};
+        assertNotSame(copy, ArrayConversions.convert(copy, int[].class));
+        assertArrayEquals(copy, (int[]) ArrayConversions.convert(copy, int[].class));
+        assertArrayEquals(new byte[]{1, -1}, (byte[]) ArrayConversions.convert(new int[]{1, 255}, byte[].class));
+        assertArrayEquals(new boolean[]{true, false}, Mapper.convert(List.of(true, false), boolean[].class));
+    }
+
+    @Test
+    void testObjectToMapAndBack() {
+        var source = new MapRow();
+        source.setName("name");
+        source.setCount(5);
+        source.setAmount(7L);
+        source.setNested(new MapNested());
+        source.getNested().setName("nested");
+
+        var map = Mapper.map(source, Map.class);
+        assertEquals("name", map.get("name"));
+        assertEquals(5, map.get("count"));
+        assertEquals(Map.of("name", "nested"), map.get("nested"));
+
+        var result = Mapper.map(map, MapRow.class);
+        assertEquals(source, result);
+
+        for (var i = 0; i < 3; i++) {
+            var row = new LinkedHashMap<String, Object>();
+            row.put("name", "row" + i);
+            row.put("count", String.valueOf(i));
+            row.put("amount", i);
+            row.put("unknown", i);
+            var mapped = Mapper.map(row, MapRow.class);
+            assertEquals("row" + i, mapped.getName());
+            assertEquals(i, mapped.getCount());
+            assertEquals(i, mapped.getAmount());
+        }
+
+        var reordered = new LinkedHashMap<String, Object>();
+        reordered.put("amount", 9L);
+        reordered.put("name", null);
+        reordered.put("count", null);
+        var mapped = Mapper.map(reordered, MapRow.class);
+        assertEquals(9L, mapped.getAmount());
+        assertNull(mapped.getName());
+        assertEquals(0, mapped.getCount());
+
+        var first = new LinkedHashMap<String, Object>();
+        first.put("name", "a");
+        first.put("count", 1);
+        first.put("code", "c");
+        var second = new LinkedHashMap<String, Object>();
+        second.put("name", "a");
+        second.put("code", "c");
+        second.put("count", 1);
+        for (var i = 0; i < 2; i++) {
+            assertEquals(List.of("name", "count", "code"), Mapper.map(first, MapTrace.class).getCalls());
+            assertEquals(List.of("name", "code", "count"), Mapper.map(second, MapTrace.class).getCalls());
+        }
+
+        var target = new MapRow();
+        target.setName("old");
+        target.setAmount(9L);
+        var changes = Mapper.mapChanges(Map.of("name", "new", "count", "5", "amount", 9L, "unknown", 1), target);
+        assertSame(target, changes.getDestination());
+        assertEquals("new", target.getName());
+        assertEquals(5, target.getCount());
+        assertEquals(9L, target.getAmount());
+        assertEquals(Set.of("name", "count"), Set.copyOf(changes.getNames()));
+        var change = changes.getChanges().stream().filter(c -> c.name().equals("name")).findFirst().orElseThrow();
+        assertEquals("old", change.oldValue());
+        assertEquals("new", change.newValue());
+        assertFalse(Mapper.mapChanges(Map.of("name", "new", "count", 5), target).hasChanges());
+    }
+
+    @Test
+    void testBinaryCodec() {
+        var source = new BinaryRow();
+        source.setName("name");
+        source.setCount(-5);
+        source.setAmount(Long.MAX_VALUE);
+        source.setRatio(0.5);
+        source.setActive(true);
+        source.setLevel((short) 3);
+        source.setUnit(ChronoUnit.DAYS);
+        source.setDate(LocalDate.of(2024, 2, 29));
+        source.setItems(List.of(1, "two", 3L));
+        source.setValues(new int[]{1, 2, 3});
+        source.setNested(new MapNested());
+        source.getNested().setName("nested");
+        source.setSkipped("skipped");
+
+        var data = Mapper.convert(source, byte[].class);
+        assertEquals(BinaryCodec.MAGIC, data[0]);
+        var result = Mapper.convert(data, BinaryRow.class);
+        assertNull(result.getSkipped());
+        source.setSkipped(null);
+        assertEquals(source.getName(), result.getName());
+        assertEquals(source.getCount(), result.getCount());
+        assertEquals(source.getAmount(), result.getAmount());
+        assertEquals(source.getRatio(), result.getRatio());
+        assertTrue(result.isActive());
+        assertEquals(source.getLevel(), result.getLevel());
+        assertEquals(ChronoUnit.DAYS, result.getUnit());
+        assertEquals(source.getDate(), result.getDate());
+        assertEquals(source.getItems(), result.getItems());
+        assertArrayEquals(source.getValues(), result.getValues());
+        assertEquals(source.getNested(), result.getNested());
+
+        var buffer = ByteBuffer.allocate(data.length);
+        BinaryCodec.encode(source, buffer);
+        buffer.flip();
+        assertEquals(source.getNested(), BinaryCodec.decode(buffer, BinaryRow.class).getNested());
+
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(data, MapRow.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{1, 2, 3}, BinaryRow.class));
+
+        BinaryCodec.setJavaSerialization(true);
+        try {
+            var legacy = new ByteArrayOutputStream();
+            try (var os = new ObjectOutputStream(legacy)) {
+                os.writeObject(source);
+            }
+            assertEquals(source.getName(), BinaryCodec.decode(legacy.toByteArray(), BinaryRow.class).getName());
+        } catch (IOException e) {
+            fail(e);
+        } finally {
+            BinaryCodec.setJavaSerialization(false);
+        }
+    }
+
+    @Test
+    void testBinaryCodecMalformed() {
+        var magic = new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION};
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(magic, Object.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION, 11, -1, -1, -1, -1, 7}, Object.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION, 10, -1, -1, -1, 15}, Object.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION, 14, -1, -1, -1, -1, 7}, Object.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION, 15, -1, -1, -1, 15}, Object.class));
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(new byte[]{BinaryCodec.MAGIC, BinaryCodec.VERSION, 12, 5}, Object.class));
+
+        var unit = BinaryCodec.encode(ChronoUnit.DAYS);
+        unit[unit.length - 1] = 100;
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(unit, ChronoUnit.class));
+        var truncated = Arrays.copyOf(BinaryCodec.encode(new MapNested()), 6);
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(truncated, MapNested.class));
+
+        var holder = new BinaryHolder();
+        holder.setValue(new MapRow());
+        var data = BinaryCodec.encode(holder);
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(data, BinaryHolder.class));
+        holder.setValue(new MapNested());
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(BinaryCodec.encode(holder), BinaryHolder.class));
+        assertNotNull(BinaryCodec.decode(BinaryCodec.encode(new MapRow()), MapRow.class));
+    }
+
+    @Test
+    void testBinaryCodecSerializable() {
+        var date = new Date(1000L);
+        assertEquals(date, Mapper.convert(Mapper.convert(date, byte[].class), Date.class));
+        assertEquals(Locale.CANADA_FRENCH, BinaryCodec.decode(BinaryCodec.encode(Locale.CANADA_FRENCH), Locale.class));
+        assertEquals(URI.create("https://binis.net/a?b=c"), BinaryCodec.decode(BinaryCodec.encode(URI.create("https://binis.net/a?b=c")), URI.class));
+        assertEquals(Currency.getInstance("EUR"), BinaryCodec.decode(BinaryCodec.encode(Currency.getInstance("EUR")), Currency.class));
+        var timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123);
+        assertEquals(timestamp, BinaryCodec.decode(BinaryCodec.encode(timestamp), Timestamp.class));
+        assertSame(BinarySingleton.INSTANCE, BinaryCodec.decode(BinaryCodec.encode(BinarySingleton.INSTANCE), BinarySingleton.class));
+
+        var holder = new BinaryHolder();
+        holder.setValue(BinarySingleton.INSTANCE);
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(BinaryCodec.encode(holder), BinaryHolder.class));
+
+        var nested = new MapNested();
+        nested.setName("nested");
+        assertEquals(nested, BinaryCodec.decode(BinaryCodec.encode(nested), Serializable.class));
+        holder.setValue(nested);
+        var dto = BinaryCodec.encode(holder);
+        assertThrows(MapperException.class, () -> BinaryCodec.decode(dto, BinaryHolder.class));
+        BinaryCodec.setJavaSerialization(true);
+        try {
+            assertEquals(nested, BinaryCodec.decode(dto, BinaryHolder.class).getValue());
+        } finally {
+            BinaryCodec.setJavaSerialization(false);
+        }
+
+        var parent = new BinaryNode();
+        var child = new BinaryNode();
+        parent.setName("parent");
+        parent.setLeft(child);
+        parent.setRight(child);
+        child.setName("child");
+        child.setParent(parent);
+        var node = BinaryCodec.decode(BinaryCodec.encode(parent), BinaryNode.class);
+        assertEquals("child", node.getLeft().getName());
+        assertSame(node.getLeft(), node.getRight());
+        assertSame(node, node.getLeft().getParent());
+
+        var cyclic = new ArrayList<Object>();
+        cyclic.add("item");
+        cyclic.add(cyclic);
+        var list = BinaryCodec.decode(BinaryCodec.encode(cyclic), List.class);
+        assertEquals("item", list.get(0));
+        assertSame(list, list.get(1));
+
+        var collections = new BinaryCollections();
+        collections.setQueue(new ArrayDeque<>(List.of("a", "b")));
+        collections.setSorted(new TreeSet<>(List.of(3, 1, 2)));
+        collections.setIndex(new TreeMap<>(Map.of("b", 2, "a", 1)));
+        collections.setItems(new ArrayList<>(List.of("c")));
+        var decoded = BinaryCodec.decode(BinaryCodec.encode(collections), BinaryCollections.class);
+        assertEquals(List.of("a", "b"), List.copyOf(decoded.getQueue()));
+        assertEquals(List.of(1, 2, 3), List.copyOf(decoded.getSorted()));
+        assertEquals(List.of("a", "b"), List.copyOf(decoded.getIndex().keySet()));
+        assertEquals(List.of("c"), decoded.getItems());
+    }
+
+    @Test
+    void testConstructorMapping() {
+        var source = new MapRow();
+        source.setName("name");
+        source.setCount(5);
+        source.setAmount(7L);
+        source.setNested(new MapNested());
+        source.getNested().setName("nested");
+
+        var record = Mapper.map(source, RowRecord.class);
+        assertEquals(new RowRecord("name", 5L, "7", 0, new NestedRecord("nested")), record);
+
+        var copy = Mapper.map(record, MapRow.class);
+        assertEquals(source, copy);
+
+        var fromMap = Mapper.map(Map.of("name", "map", "count", "3", "missing", 1), RowRecord.class);
+        assertEquals(new RowRecord("map", 3L, null, 0, null), fromMap);
+
+        var immutable = Mapper.map(source, ImmutableRow.class, MappingStrategy.CONSTRUCTOR);
+        assertEquals("name", immutable.getName());
+        assertEquals(5, immutable.getCount());
+        assertEquals(7L, immutable.getAmount());
+
+        assertNotNull(ConstructorMapperExecutor.findConstructor(ImmutableRow.class));
+        assertNull(ConstructorMapperExecutor.findConstructor(PointRow.class));
+        assertFalse(ConstructorMapperExecutor.isSupported(MapRow.class, PointRow.class, MappingStrategy.CONSTRUCTOR));
+
+        assertThrows(MapperException.class, () -> Mapper.mapChanges(source, record));
+    }
+
+    @Test
+    void testGenericCollections() {
+        var source = new GenericSource();
+        source.setIds(Arrays.asList("1", null, "3"));
+        source.setCodes(new LinkedHashSet<>(List.of(4, 5)));
+        source.setAmounts(Map.of("a", "10"));
+        source.setTags(List.of("x", "y", "x"));
+
+        var result = Mapper.map(source, GenericDestination.class);
+        assertEquals(Arrays.asList(1L, null, 3L), result.getIds());
+        assertEquals(List.of(4L, 5L), result.getCodes());
+        assertEquals(Map.of("a", 10L), result.getAmounts());
+        assertEquals(Set.of("x", "y"), result.getTags());
+
+        var explain = ((MapperMonitor) CodeFactory.create(MapperFactory.class)).explain(GenericSource.class, GenericDestination.class);
+        assertTrue(explain.stream().anyMatch(s -> s.startsWith("ids: CONVERTER")));
+
+        var record = Mapper.map(source, GenericRecord.class);
+        assertEquals(Arrays.asList(1L, null, 3L), record.ids());
+        assertEquals(Map.of("a", 10L), record.amounts());
+
+        var same = new GenericSource();
+        same.setTags(new ArrayList<>(List.of("z")));
+        assertSame(same.getTags(), Mapper.map(same, GenericSource.class).getTags());
+    }
+
+    @Test
+    void testPartialMapping() {
+        var source = new LazySource();
+        var row = Mapper.mapPartial(source, MapRow.class, List.of("name"));
+        assertEquals("name", row.getName());
+        assertEquals(0, row.getCount());
+        assertNull(row.getAmount());
+        assertEquals(List.of("name"), source.calls);
+
+        source.calls.clear();
+        row = Mapper.mapPartial(source, MapRow.class, NameAndNested.class);
+        assertEquals("name", row.getName());
+        assertEquals("nested", row.getNested().getName());
+        assertNull(row.getAmount());
+        assertEquals(Set.of("name", "nested"), Set.copyOf(source.calls));
+
+        source.calls.clear();
+        var target = new MapRow();
+        target.setAmount(9L);
+        assertSame(target, Mapper.mapPartial(source, target, List.of("nested")));
+        assertEquals(9L, target.getAmount());
+        assertEquals("nested", target.getNested().getName());
+        assertEquals(List.of("nested"), source.calls);
+        assertThrows(MapperException.class, () -> Mapper.mapPartial(source, MapRow.class, List.of("name", "unknown")));
+        assertThrows(MapperException.class, () -> Mapper.mapPartial(source, target, List.of("nested.name")));
+
+        var record = Mapper.mapPartial(source, RowRecord.class, List.of("name", "count"));
+        assertEquals(new RowRecord("name", 3L, null, 0, null), record);
+
+        var fromMap = Mapper.mapPartial(Map.of("name", "map", "count", "3"), MapRow.class, List.of("count"));
+        assertNull(fromMap.getName());
+        assertEquals(3, fromMap.getCount());
+
+        var executor = (MapperExecutor<?>) Mapper.precompile(LazySource.class, MapRow.class);
+        var mask = executor.mask(List.of("name"));
+        assertSame(executor.partial(mask), executor.partial(executor.mask(List.of("name"))));
+        assertNotSame(executor.partial(mask), executor.partial(executor.mask(NameAndNested.class)));
+
+        var hot = executor.partial(mask);
+        var first = new BitSet();
+        first.set(1000);
+        var cold = executor.partial(first);
+        var churn = new BitSet();
+        Mapping<Object, ?> last = null;
+        for (var i = 1; i <= 300; i++) {
+            churn = new BitSet();
+            churn.set(1000 + i);
+            last = executor.partial(churn);
+            assertSame(hot, executor.partial(mask));
+        }
+        assertSame(last, executor.partial(churn));
+        assertNotSame(cold, executor.partial(first));
+    }
+
+    @Test
+    void testRegisterFormat() {
+        TemporalConversions.registerFormat("slashDate", "yyyy/MM/dd");
+        assertEquals("2024/02/29", Mapper.map(LocalDate.of(2024, 2, 29), String.class, "slashDate"));
+        assertEquals("2024/02/29", Mapper.map(LocalDateTime.of(2024, 2, 29, 10, 0), String.class, "slashDate"));
+        assertEquals(LocalDate.of(2024, 2, 29), Mapper.map("2024/02/29", LocalDate.class, "slashDate"));
+        var factory = CodeFactory.create(MapperFactory.class);
+        assertNull(factory.getExactMap(LocalTime.class, String.class, "slashDate"));
+        assertNull(factory.getExactMap(OffsetTime.class, String.class, "slashDate"));
+        assertNotNull(factory.getExactMap(OffsetDateTime.class, String.class, "slashDate"));
+        var formatter = TemporalConversions.formatter("yyyy/MM/dd");
+        assertNull(TemporalConversions.parse("2024/02/29x", formatter, LocalDate::from));
+        assertNull(TemporalConversions.parse("2024/0x/29", formatter, LocalDate::from));
+        assertNull(TemporalConversions.parse("2024/02/29", formatter, LocalTime::from));
+    }
+
+    @Test
+    void testFlyweight() {
+        var layout = Flyweights.layout(Quote.class);
+        assertEquals(40, layout.getSize());
+        var buffer = Flyweights.allocate(Quote.class, 2);
+
+        var source = new QuoteBean();
+        source.setSymbol("BNS");
+        source.setPrice(12.5);
+        source.setVolume(1000L);
+        source.setLevel(3);
+        source.setActive(true);
+        source.setUnit(ChronoUnit.DAYS);
+
+        var second = Flyweights.wrap(Quote.class, buffer, layout.getSize());
+        Mapper.map(source, second);
+        assertEquals("BNS", second.getSymbol());
+        assertEquals(12.5, second.getPrice());
+        assertEquals(1000L, second.getVolume());
+        assertEquals(3, second.getLevel());
+        assertTrue(second.isActive());
+        assertEquals(ChronoUnit.DAYS, second.getUnit());
+
+        var first = Flyweights.wrap(Quote.class, buffer, 0);
+        first.setSymbol(null);
+        first.setUnit(null);
+        assertNull(first.getSymbol());
+        assertNull(first.getUnit());
+        assertEquals(0L, first.getVolume());
+
+        ((Flyweight) first).wrap(buffer, layout.getSize());
+        assertEquals(source, Mapper.map(first, QuoteBean.class));
+        assertThrows(MapperException.class, () -> first.setSymbol("TOO LONG SYMBOL"));
+
+        var slots = layout.getSlots().stream().collect(Collectors.toMap(FlyweightLayout.Slot::name, FlyweightLayout.Slot::offset));
+        buffer.putShort(layout.getSize() + slots.get("symbol"), (short) 100);
+        assertEquals(8, first.getSymbol().length());
+        buffer.putInt(layout.getSize() + slots.get("unit"), 100);
+        assertThrows(MapperException.class, first::getUnit);
+
+        assertThrows(MapperException.class, () -> Flyweights.layout(QuoteCommand.class));
+        assertThrows(MapperException.class, () -> Flyweights.layout(QuoteWriteOnly.class));
+        assertThrows(MapperException.class, () -> Flyweights.layout(QuoteMismatch.class));
+    }
+
     @Test
     void testBooleanListToArray() {
         var result = Mapper.convert(List.of(true,false,true), boolean[].class);
@@ -363,6 +921,27 @@ class MapperTest {
         assertFalse(Mapper.convert(null, boolean.class));
     }
 
+    @Test
+    void testPrimitiveConverters() {
+        var source = new PrimitiveSource(5, 6L, 7.9, true, "8", null);
+        var result = Mapper.map(source, PrimitiveDestination.class);
+        assertEquals(5L, result.getCount());
+        assertEquals(6, result.getAmount());
+        assertEquals(7, result.getPrice());
+        assertEquals(1, result.getActive());
+        assertEquals(8, result.getCode());
+        assertEquals(-1, result.getBoxed());
+
+        source.setBoxed(3);
+        assertEquals(3, Mapper.map(source, result).getBoxed());
+
+        var explain = ((MapperMonitor) CodeFactory.create(MapperFactory.class)).explain(PrimitiveSource.class, PrimitiveDestination.class);
+        assertTrue(explain.contains("count: PRIMITIVE getCount -> setCount [LAMBDA -> LAMBDA]"));
+        assertTrue(explain.contains("code: PRIMITIVE getCode -> setCode [LAMBDA -> LAMBDA]"));
+
+        assertThrows(MapperException.class, () -> Mapper.map(new PrimitiveSource(0, 0L, 0.0, false, "x", null), PrimitiveDestination.class));
+    }
+
     private int getOffset() {
         return ZoneId.of("Europe/Sofia").getRules().getOffset(LocalDateTime.now()).getTotalSeconds();
     }
@@ -443,4 +1022,232 @@ class MapperTest {
         private String builder;
     }
 
+    @Data
+    @AllArgsConstructor
+    public static class PrimitiveSource {
+        private int count;
+        private long amount;
+        private double price;
+        private boolean active;
+        private String code;
+        private Integer boxed;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class StreamRow {
+        private String name;
+        private Integer count;
+        private String date;
+    }
+
+    @Data
+    public static class StreamTarget {
+        private String name;
+        private int count;
+        private LocalDate date;
+    }
+
+    @Data
+    public static class PrimitiveDestination {
+        private long count;
+        private int amount;
+        private int price;
+        private int active;
+        private int code;
+        private long boxed = -1;
+    }
+
+    public interface Quote {
+        @FixedLength(8)
+        String getSymbol();
+        void setSymbol(String symbol);
+        double getPrice();
+        void setPrice(double price);
+        long getVolume();
+        void setVolume(long volume);
+        int getLevel();
+        void setLevel(int level);
+        boolean isActive();
+        void setActive(boolean active);
+        ChronoUnit getUnit();
+        void setUnit(ChronoUnit unit);
+    }
+
+    public interface QuoteCommand {
+        int getLevel();
+        void setLevel(int level);
+        void reset();
+    }
+
+    public interface QuoteWriteOnly {
+        void setLevel(int level);
+    }
+
+    public interface QuoteMismatch {
+        int getLevel();
+        void setLevel(long level);
+    }
+
+    @Data
+    public static class QuoteBean {
+        private String symbol;
+        private double price;
+        private long volume;
+        private int level;
+        private boolean active;
+        private ChronoUnit unit;
+    }
+
+    public record NestedRecord(String name) {
+    }
+
+    public interface NameAndNested {
+        String getName();
+        MapNested getNested();
+    }
+
+    public static class LazySource {
+        private final List<String> calls = new ArrayList<>();
+
+        public String getName() {
+            calls.add("name");
+            return "name";
+        }
+
+        public int getCount() {
+            calls.add("count");
+            return 3;
+        }
+
+        public Long getAmount() {
+            calls.add("amount");
+            return 5L;
+        }
+
+        public MapNested getNested() {
+            calls.add("nested");
+            var result = new MapNested();
+            result.setName("nested");
+            return result;
+        }
+    }
+
+    public record GenericRecord(List<Long> ids, Map<String, Long> amounts) {
+    }
+
+    @Data
+    public static class GenericSource {
+        private List<String> ids;
+        private Set<Integer> codes;
+        private Map<String, String> amounts;
+        private List<String> tags;
+    }
+
+    @Data
+    public static class GenericDestination {
+        private List<Long> ids;
+        private List<Long> codes;
+        private Map<String, Long> amounts;
+        private Set<String> tags;
+    }
+
+    public record RowRecord(String name, long count, String amount, int unknown, NestedRecord nested) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImmutableRow {
+        private final String name;
+        private final int count;
+        private final Long amount;
+    }
+
+    @Getter
+    public static class PointRow {
+        private final int x;
+        private final int y;
+
+        public PointRow(int y, int x) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Getter
+    public static class MapTrace {
+        private final List<String> calls = new ArrayList<>();
+
+        public void setName(String name) {
+            calls.add("name");
+        }
+
+        public void setCount(int count) {
+            calls.add("count");
+        }
+
+        public void setCode(String code) {
+            calls.add("code");
+        }
+    }
+
+    @Data
+    public static class MapRow {
+        private String name;
+        private int count;
+        private Long amount;
+        private MapNested nested;
+    }
+
+    @Data
+    public static class MapNested implements Serializable {
+        private String name;
+    }
+
+    @Data
+    public static class BinaryRow implements Serializable {
+        private String name;
+        private int count;
+        private long amount;
+        private double ratio;
+        private boolean active;
+        private short level;
+        private ChronoUnit unit;
+        private LocalDate date;
+        private List<Object> items;
+        private int[] values;
+        private MapNested nested;
+        private transient String skipped;
+    }
+
+    @Data
+    public static class BinaryHolder implements Serializable {
+        private Object value;
+    }
+
+    @Getter
+    @Setter
+    public static class BinaryNode implements Serializable {
+        private String name;
+        private BinaryNode parent;
+        private BinaryNode left;
+        private BinaryNode right;
+    }
+
+    @Data
+    public static class BinaryCollections implements Serializable {
+        private Deque<String> queue;
+        private SortedSet<Integer> sorted;
+        private SortedMap<String, Integer> index;
+        private List<String> items;
+    }
+
+    public static class BinarySingleton implements Serializable {
+        public static final BinarySingleton INSTANCE = new BinarySingleton();
+
+        protected Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
 }